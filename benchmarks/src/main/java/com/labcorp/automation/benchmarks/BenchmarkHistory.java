@@ -0,0 +1,104 @@
+package com.labcorp.automation.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs the benchmarks and tracks their scores across commits.
+ *
+ * Each run writes the full JMH JSON to {@code results/<commit>.json} and appends one line per
+ * benchmark to {@code results/history.csv}; scores are then compared with the most recent
+ * earlier commit in the history so regressions and wins show up in the console.
+ *
+ * <pre>
+ * cd benchmarks
+ * mvn package
+ * java -jar target/benchmarks.jar [benchmark regex]
+ * </pre>
+ */
+public final class BenchmarkHistory {
+
+    private static final String HEADER = "commit,timestamp,benchmark,score,error,unit";
+
+    private BenchmarkHistory() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+        Path results = Path.of(System.getProperty("benchmark.results", "results"));
+        Files.createDirectories(results);
+        String commit = currentCommit();
+
+        Collection<RunResult> runs = new Runner(new OptionsBuilder()
+            .include(args.length > 0 ? args[0] : "com.labcorp.automation.benchmarks.*")
+            .resultFormat(ResultFormatType.JSON)
+            .result(results.resolve(commit + ".json").toString())
+            .build()).run();
+
+        Path history = results.resolve("history.csv");
+        Map<String, Double> previous = latestScores(history, commit);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(history)) {
+            lines.append(HEADER).append('\n');
+        }
+        String timestamp = Instant.now().toString();
+        System.out.println();
+        System.out.printf("%-70s %12s %12s %9s%n", "Benchmark", "Score", "Previous", "Change");
+        for (RunResult run : runs) {
+            String name = run.getParams().getBenchmark();
+            double score = run.getPrimaryResult().getScore();
+            String unit = run.getPrimaryResult().getScoreUnit();
+            lines.append(String.format(Locale.ROOT, "%s,%s,%s,%.6f,%.6f,%s%n",
+                commit, timestamp, name, score, run.getPrimaryResult().getScoreError(), unit));
+
+            Double before = previous.get(name);
+            System.out.printf(Locale.ROOT, "%-70s %12.3f %12s %9s%n", name, score,
+                before == null ? "-" : String.format(Locale.ROOT, "%.3f", before),
+                before == null ? "-" : String.format(Locale.ROOT, "%+.1f%%", (score - before) / before * 100));
+        }
+        Files.writeString(history, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // Scores from the last commit in the history other than the current one
+    private static Map<String, Double> latestScores(Path history, String currentCommit) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (!Files.exists(history)) {
+            return scores;
+        }
+        List<String> lines = Files.readAllLines(history, StandardCharsets.UTF_8);
+        String previousCommit = null;
+        for (int i = lines.size() - 1; i > 0; i--) {
+            String[] cols = lines.get(i).split(",");
+            if (cols.length < 4 || cols[0].equals(currentCommit)) {
+                continue;
+            }
+            if (previousCommit == null) {
+                previousCommit = cols[0];
+            }
+            if (cols[0].equals(previousCommit)) {
+                scores.putIfAbsent(cols[2], Double.parseDouble(cols[3]));
+            }
+        }
+        return scores;
+    }
+
+    private static String currentCommit() throws IOException, InterruptedException {
+        Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+        String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        return git.waitFor() == 0 && !output.isEmpty() ? output : "uncommitted";
+    }
+}
@@ -0,0 +1,78 @@
+package com.labcorp.automation.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Headless Chrome plus a localhost HTTP server serving the saved pages.
+ *
+ * Pages come from {@code src/main/resources/pages}, refreshed from recorded traffic with
+ * {@link FixtureImporter}, unless {@code -Dbenchmark.pages=<dir>} points at another directory
+ * of saved copies, so strategies can be compared on real markup without network noise.
+ */
+final class BrowserFixture implements AutoCloseable {
+
+    private final HttpServer server;
+    private final WebDriver driver;
+
+    BrowserFixture() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                byte[] body = readPage(exchange.getRequestURI().getPath().substring(1));
+                if (body == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1366,900", "--disable-extensions", "--disable-gpu");
+        driver = new ChromeDriver(options);
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    void open(String page) {
+        driver.get("http://127.0.0.1:" + server.getAddress().getPort() + "/" + page);
+    }
+
+    private static byte[] readPage(String name) throws IOException {
+        String dir = System.getProperty("benchmark.pages");
+        if (dir != null && !dir.isBlank()) {
+            Path file = Path.of(dir).resolve(name).normalize();
+            return file.startsWith(Path.of(dir).normalize()) && Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+        }
+        try (InputStream in = BrowserFixture.class.getResourceAsStream("/pages/" + name)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    @Override
+    public void close() {
+        driver.quit();
+        server.stop(0);
+    }
+}
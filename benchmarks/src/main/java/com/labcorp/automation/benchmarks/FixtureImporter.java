@@ -0,0 +1,103 @@
+package com.labcorp.automation.benchmarks;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Turns documents from a record-mode replay archive into the saved pages the benchmarks load.
+ *
+ * The archive is the one {@code mvn test -Dreplay.mode=record} writes ({@code index.jsonl}
+ * plus {@code bodies/}). The first job detail document and the first search results document
+ * in it are written to {@code src/main/resources/pages} after sanitising: scripts, frames,
+ * external stylesheets and resource hints are dropped so the page cannot reach the network
+ * from localhost, inline event handlers and image sources are removed, and e-mail addresses,
+ * hidden form values and token-like query parameters are masked.
+ *
+ * <pre>
+ * cd benchmarks
+ * java -cp target/benchmarks.jar com.labcorp.automation.benchmarks.FixtureImporter ../target/replay/labcorp
+ * </pre>
+ */
+public final class FixtureImporter {
+
+    private static final Map<String, Pattern> PAGES = new LinkedHashMap<>();
+
+    static {
+        PAGES.put("job-detail.html", Pattern.compile("/global/en/job/"));
+        PAGES.put("search-results.html", Pattern.compile("/global/en/search-results"));
+    }
+
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+    private static final List<Pattern> REMOVED = List.of(
+        Pattern.compile("<script\\b.*?</script\\s*>", FLAGS),
+        Pattern.compile("<noscript\\b.*?</noscript\\s*>", FLAGS),
+        Pattern.compile("<iframe\\b.*?</iframe\\s*>", FLAGS),
+        Pattern.compile("<link\\b[^>]*\\brel=[\"']?(?:stylesheet|preload|prefetch|preconnect|dns-prefetch|modulepreload)[^>]*>", FLAGS),
+        Pattern.compile("<base\\b[^>]*>", FLAGS),
+        Pattern.compile("\\son[a-z]+\\s*=\\s*(?:\"[^\"]*\"|'[^']*')", FLAGS));
+
+    private static final Pattern IMAGE_SOURCE = Pattern.compile("(<img\\b[^>]*?)\\s(?:src|srcset)\\s*=\\s*(?:\"[^\"]*\"|'[^']*')", FLAGS);
+    private static final Pattern HIDDEN_VALUE = Pattern.compile("(<input\\b[^>]*type=[\"']?hidden[^>]*\\bvalue=)(\"[^\"]*\"|'[^']*')", FLAGS);
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+    private static final Pattern TOKEN_PARAMETER = Pattern.compile(
+        "([?&](?:token|session|sid|csrf|auth|utm_[a-z]+|gclid|fbclid)=)[^&\"'\\s]*", Pattern.CASE_INSENSITIVE);
+
+    private FixtureImporter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: FixtureImporter <replay archive dir> [pages dir]");
+            System.exit(2);
+        }
+        Path archive = Path.of(args[0]);
+        Path pages = Path.of(args.length > 1 ? args[1] : "src/main/resources/pages");
+        Files.createDirectories(pages);
+
+        Json json = new Json();
+        List<String> index = Files.readAllLines(archive.resolve("index.jsonl"), StandardCharsets.UTF_8);
+        for (Map.Entry<String, Pattern> page : PAGES.entrySet()) {
+            Map<String, Object> document = null;
+            for (String line : index) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> entry = json.toType(line, Json.MAP_TYPE);
+                String contentType = String.valueOf(entry.get("contentType"));
+                if (contentType.contains("text/html") && "GET".equals(entry.getOrDefault("method", "GET"))
+                        && page.getValue().matcher(String.valueOf(entry.get("url"))).find()) {
+                    document = entry;
+                    break;
+                }
+            }
+            if (document == null) {
+                System.out.println("No document matching " + page.getValue() + " in " + archive + "; " + page.getKey() + " left as is");
+                continue;
+            }
+            String html = Files.readString(archive.resolve("bodies").resolve(String.valueOf(document.get("body"))), StandardCharsets.UTF_8);
+            Files.writeString(pages.resolve(page.getKey()), sanitize(html), StandardCharsets.UTF_8);
+            System.out.println("Wrote " + pages.resolve(page.getKey()) + " from " + document.get("url"));
+        }
+    }
+
+    static String sanitize(String html) {
+        String out = html;
+        for (Pattern pattern : REMOVED) {
+            out = pattern.matcher(out).replaceAll("");
+        }
+        out = IMAGE_SOURCE.matcher(out).replaceAll("$1");
+        out = HIDDEN_VALUE.matcher(out).replaceAll("$1\"\"");
+        out = EMAIL.matcher(out).replaceAll("user@example.com");
+        out = TOKEN_PARAMETER.matcher(out).replaceAll("$1x");
+        return out;
+    }
+}
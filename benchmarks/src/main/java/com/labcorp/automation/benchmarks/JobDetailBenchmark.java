@@ -0,0 +1,101 @@
+package com.labcorp.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job detail lookups used by {@code LabcorpSteps} next to CSS and in-page JavaScript
+ * alternatives, plus per-field versus single-script extraction.
+ */
+public class JobDetailBenchmark extends PageBenchmark {
+
+    private static final String TEXT_WALKER_SCRIPT =
+        "var walker = document.createTreeWalker(document.body, NodeFilter.SHOW_TEXT), out = [], n;" +
+        "while ((n = walker.nextNode())) { if (n.nodeValue.indexOf(arguments[0]) >= 0) out.push(n.parentElement); }" +
+        "return out;";
+
+    private static final String OWN_TEXT_SCRIPT =
+        "var found = document.querySelectorAll('div, p'), out = [];" +
+        "for (var i = 0; i < found.length; i++) {" +
+        "  for (var c = found[i].firstChild; c; c = c.nextSibling) {" +
+        "    if (c.nodeType === 3) { if (c.nodeValue.length > 50) out.push(found[i]); break; }" +
+        "  }" +
+        "}" +
+        "return out;";
+
+    private static final String SNAPSHOT_SCRIPT =
+        "function t(sel) { var e = document.querySelector(sel); return e ? e.innerText.trim() : ''; }" +
+        "return { title: t('h1'), location: t(\"[class*='location']\"), jobId: t('.jobId')," +
+        "         requirements: t(\"[class*='requirements']\"), body: document.body.innerText };";
+
+    @Override
+    protected String page() {
+        return "job-detail.html";
+    }
+
+    // ============================================================================
+    // REQUIREMENTS LOOKUP (findJobRequirements)
+    // ============================================================================
+
+    @Benchmark
+    public List<WebElement> requirementsXPathTextScan() {
+        return fixture.driver().findElements(By.xpath("//*[contains(text(), 'experience')]"));
+    }
+
+    @Benchmark
+    public List<WebElement> requirementsCssClass() {
+        return fixture.driver().findElements(By.cssSelector("[class*='requirements'] li"));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<WebElement> requirementsJsTextWalker() {
+        return (List<WebElement>) ((JavascriptExecutor) fixture.driver()).executeScript(TEXT_WALKER_SCRIPT, "experience");
+    }
+
+    // ============================================================================
+    // INTRODUCTION LOOKUP (findJobIntroduction)
+    // ============================================================================
+
+    @Benchmark
+    public List<WebElement> introXPathStringLength() {
+        return fixture.driver().findElements(By.xpath("//div[string-length(text()) > 50]"));
+    }
+
+    @Benchmark
+    public List<WebElement> introCssDescription() {
+        return fixture.driver().findElements(By.cssSelector("[class*='description'] > div, [class*='description'] > p"));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<WebElement> introJsOwnText() {
+        return (List<WebElement>) ((JavascriptExecutor) fixture.driver()).executeScript(OWN_TEXT_SCRIPT);
+    }
+
+    // ============================================================================
+    // FIELD EXTRACTION (validation steps)
+    // ============================================================================
+
+    @Benchmark
+    public List<String> extractPerFieldGetText() {
+        List<String> fields = new ArrayList<>();
+        fields.add(fixture.driver().findElement(By.xpath("//h1")).getText());
+        fields.add(fixture.driver().findElement(By.xpath("//*[contains(@class, 'location')]")).getText());
+        fields.add(fixture.driver().findElement(By.className("jobId")).getText());
+        fields.add(fixture.driver().findElement(By.xpath("//*[contains(@class, 'requirements')]")).getText());
+        fields.add(fixture.driver().findElement(By.tagName("body")).getText());
+        return fields;
+    }
+
+    @Benchmark
+    public Map<?, ?> extractSingleScript() {
+        return (Map<?, ?>) ((JavascriptExecutor) fixture.driver()).executeScript(SNAPSHOT_SCRIPT);
+    }
+}
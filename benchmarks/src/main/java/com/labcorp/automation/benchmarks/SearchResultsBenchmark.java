@@ -0,0 +1,36 @@
+package com.labcorp.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+/**
+ * Result-link lookups used by {@code selectJob}: XPath attribute scan, CSS attribute
+ * selector, and a script returning only the hrefs.
+ */
+public class SearchResultsBenchmark extends PageBenchmark {
+
+    @Override
+    protected String page() {
+        return "search-results.html";
+    }
+
+    @Benchmark
+    public List<WebElement> jobLinksXPath() {
+        return fixture.driver().findElements(By.xpath("//a[contains(@href, '/global/en/job/')]"));
+    }
+
+    @Benchmark
+    public List<WebElement> jobLinksCss() {
+        return fixture.driver().findElements(By.cssSelector("a[href*='/global/en/job/']"));
+    }
+
+    @Benchmark
+    public Object jobHrefsJs() {
+        return ((JavascriptExecutor) fixture.driver()).executeScript(
+            "return Array.prototype.map.call(document.querySelectorAll(\"a[href*='/global/en/job/']\"), function (a) { return a.href; });");
+    }
+}
@@ -1,14 +1,19 @@
 package com.labcorp.automation.runners;
 
-import io.cucumber.junit.Cucumber;
+import com.labcorp.automation.support.shard.ShardedCucumber;
 import io.cucumber.junit.CucumberOptions;
 import org.junit.runner.RunWith;
 
-@RunWith(Cucumber.class)
+// Runs everything, or one shard with -Dshard.count=N -Dshard.index=i
+@RunWith(ShardedCucumber.class)
 @CucumberOptions(
     features = "src/test/resources/features",
     glue = "com.labcorp.automation.steps",  // Corrected to match your step definitions package
-    plugin = {"pretty", "html:target/cucumber-report.html"},
+    plugin = {
+        "pretty",
+        "html:target/cucumber-report.html",
+        "com.labcorp.automation.support.metrics.LatencyReportPlugin"
+    },
     monochrome = true
 )
 public class TestRunner {
@@ -0,0 +1,18 @@
+package com.labcorp.automation.steps;
+
+import com.labcorp.automation.support.DriverManager;
+import com.labcorp.automation.support.evidence.FailureEvidence;
+import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
+
+public class EvidenceHooks {
+
+    // Runs before LabcorpSteps quits the driver; only the browser reads happen here
+    @After(order = 15000)
+    public void captureFailureEvidence(Scenario scenario) {
+        if (scenario.isFailed() && DriverManager.hasDriver()) {
+            FailureEvidence.capture(DriverManager.getDriver(), scenario.getName())
+                .ifPresent(path -> scenario.log("Failure evidence: " + path));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.labcorp.automation.steps;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.api.JobPosting;
+import com.labcorp.automation.support.api.JobPostingClient;
+import com.labcorp.automation.support.api.JobStandInServer;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import io.cucumber.java.After;
+import io.cucumber.java.en.*;
+
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Browserless job data validation: postings are fetched over HTTP and checked in memory,
+ * leaving Selenium for interaction steps only.
+ *
+ * Targets the bundled local stand-in server by default ({@code -Dapi.baseUrl=standin}), so the
+ * {@code @api} scenarios run offline. Point {@code -Dapi.baseUrl} at
+ * https://careers.labcorp.com to validate the live site instead.
+ */
+public class JobApiSteps {
+    
+    // ============================================================================
+    // INSTANCE VARIABLES
+    // ============================================================================
+    private JobStandInServer standIn;
+    private List<JobPosting> postings = List.of();
+    
+    // ============================================================================
+    // FETCH STEPS
+    // ============================================================================
+    
+    @When("I fetch job postings matching {string} over HTTP")
+    public void fetchJobPostings(String keywords) {
+        String baseUrl = TestConfig.get("api.baseUrl", "standin");
+        if (baseUrl.equals("standin")) {
+            standIn = JobStandInServer.start();
+            baseUrl = standIn.baseUrl();
+        }
+        
+        long start = System.nanoTime();
+        try (JobPostingClient client = new JobPostingClient(baseUrl, TestConfig.getInt("api.concurrency", 8))) {
+            List<String> urls = client.searchJobUrls(keywords, TestConfig.getInt("api.maxJobs", 10));
+            Assert.assertFalse("No job listings found over HTTP for: " + keywords, urls.isEmpty());
+            postings = client.fetchAll(urls);
+        }
+        RunLog.record(RunEvent.API_FETCHED, keywords, baseUrl, postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    // ============================================================================
+    // VALIDATION STEPS
+    // ============================================================================
+    
+    @Then("every fetched job posting has a title, location and job ID")
+    public void validateAllPostings() {
+        List<String> failures = new ArrayList<>();
+        for (JobPosting posting : postings) {
+            if (posting.title().isEmpty()) {
+                failures.add(posting.url() + ": missing title");
+            }
+            if (posting.location().isEmpty()) {
+                failures.add(posting.url() + ": missing location");
+            }
+            if (posting.jobId().isEmpty()) {
+                failures.add(posting.url() + ": missing job ID");
+            }
+        }
+        Assert.assertTrue("Invalid job postings:\n" + String.join("\n", failures), failures.isEmpty());
+        RunLog.record(RunEvent.API_VALIDATED, postings.size());
+    }
+    
+    @Then("a fetched job posting titled {string} is located in {string}")
+    public void validatePostingLocation(String title, String expectedLocation) {
+        JobPosting posting = postingTitled(title);
+        Assert.assertTrue("Job location should contain: " + expectedLocation + " but was: " + posting.location(),
+            posting.location().toLowerCase().contains(expectedLocation.toLowerCase()));
+        RunLog.record(RunEvent.API_FIELD, posting.title(), "location", posting.location());
+    }
+    
+    @Then("a fetched job posting titled {string} lists the requirement {string}")
+    public void validatePostingRequirement(String title, String requirement) {
+        JobPosting posting = postingTitled(title);
+        boolean listed = posting.requirements().stream().anyMatch(r -> r.equalsIgnoreCase(requirement.trim()))
+            || posting.descriptionText().toLowerCase().contains(requirement.toLowerCase());
+        Assert.assertTrue("Requirement not found in " + posting.url() + ": " + requirement, listed);
+        RunLog.record(RunEvent.API_FIELD, posting.title(), "requirement", requirement);
+    }
+    
+    private JobPosting postingTitled(String title) {
+        return postings.stream()
+            .filter(p -> p.title().equalsIgnoreCase(title.trim()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No fetched job posting titled: " + title));
+    }
+    
+    // ============================================================================
+    // CLEANUP
+    // ============================================================================
+    
+    @After
+    public void stopStandIn() {
+        if (standIn != null) {
+            standIn.close();
+            standIn = null;
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package com.labcorp.automation.steps;
 
+import com.labcorp.automation.support.ApplyPrefetcher;
+import com.labcorp.automation.support.BatchJobValidator;
+import com.labcorp.automation.support.BrowserProfile;
+import com.labcorp.automation.support.ConsentManager;
+import com.labcorp.automation.support.DriverManager;
+import com.labcorp.automation.support.JobDetailSnapshot;
+import com.labcorp.automation.support.LocatorRace;
+import com.labcorp.automation.support.NetworkUsage;
+import com.labcorp.automation.support.PageConditions;
+import com.labcorp.automation.support.PageReadiness;
+import com.labcorp.automation.support.PageSnapshotCache;
+import com.labcorp.automation.support.PageTextIndex;
+import com.labcorp.automation.support.ResponseMonitor;
+import com.labcorp.automation.support.SearchResultScanner;
+import com.labcorp.automation.support.StartupTimings;
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.InstrumentedWait;
+import com.labcorp.automation.support.metrics.PagePerformance;
+import com.labcorp.automation.support.replay.Replay;
 import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
 import io.cucumber.java.en.*;
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 import org.junit.Assert;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.*;
 
 import java.time.Duration;
@@ -19,9 +39,27 @@ public class LabcorpSteps {
     // ============================================================================
     // INSTANCE VARIABLES
     // ============================================================================
+    // Cucumber builds one instance per scenario; the driver itself is thread-confined
+    // in DriverManager so parallel scenarios never share a browser
     private WebDriver driver;
     private WebDriverWait wait;
     private boolean applicationPageLoaded = false;
+    private NetworkUsage networkUsage;
+    private ResponseMonitor responseMonitor;
+    private PageReadiness pageReadiness;
+    // Job detail fields extracted in one round trip; invalidated on every navigation or tab switch
+    private final PageSnapshotCache snapshots = new PageSnapshotCache();
+    private List<BatchJobValidator.Row> batchResults;
+    private Scenario scenario;
+    // -Dprefetch.apply=off|hint|tab warms the application page while the job page is asserted
+    private final ApplyPrefetcher applyPrefetcher = new ApplyPrefetcher();
+    
+    private static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(20);
+    
+    // Event-driven settling replaces fixed sleeps: wait only until the page goes quiet
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(500);
+    private static final Duration SETTLE_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SETTLE_POLLING = Duration.ofMillis(100);
     
     // ============================================================================
     // SETUP AND NAVIGATION STEPS
@@ -29,17 +67,22 @@ public class LabcorpSteps {
     
     @Given("I open Chrome and navigate to {string}")
     public void openChromeAndNavigate(String url) {
-        // Automatic ChromeDriver management
-        WebDriverManager.chromedriver().setup();
+        // -Dbrowser.profile=standard|headless|lean
+        BrowserProfile profile = BrowserProfile.current();
         
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--disable-extensions");
-        
-        driver = new ChromeDriver(options);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        driver.manage().window().maximize();
-        driver.get(url);
+        // Automatic ChromeDriver management, one session per worker thread
+        driver = DriverManager.startDriver(profile.options());
+        wait = new InstrumentedWait(driver, ELEMENT_TIMEOUT, "element");
+        profile.apply(driver);
+        networkUsage = NetworkUsage.start(driver, profile).orElse(null);
+        responseMonitor = ResponseMonitor.start(driver);
+        pageReadiness = PageReadiness.start(driver);
+        // Record into, or serve from, the archive when -Dreplay.mode is set
+        Replay.attach(driver);
+        // Pre-seed OneTrust consent so the banner never renders
+        ConsentManager.preSeed(driver);
+        StartupTimings.firstNavigation(() -> driver.get(url));
+        PagePerformance.capture(driver, "home");
         
         handleCookieConsent();
     }
@@ -51,6 +94,7 @@ public class LabcorpSteps {
         wait.until(ExpectedConditions.invisibilityOfElementLocated(By.className("onetrust-pc-dark-filter")));
         WebElement careersLink = wait.until(ExpectedConditions.elementToBeClickable(By.linkText(linkText)));
         careersLink.click();
+        PagePerformance.capture(driver, linkText.toLowerCase());
     }
     
     @When("I search for {string} position")
@@ -63,6 +107,8 @@ public class LabcorpSteps {
             By.xpath("//input[@placeholder='Search job title or location']")));
         searchBox.sendKeys(jobTitle);
         searchBox.sendKeys(Keys.ENTER);
+        snapshots.invalidate();
+        PagePerformance.capture(driver, "search-results");
         
         // Handle potential popup on search results page
         handleCookieConsent();
@@ -74,16 +120,63 @@ public class LabcorpSteps {
         wait.until(ExpectedConditions.presenceOfElementLocated(
             By.xpath("//div[contains(@class, 'search-results') or contains(@id, 'search-results')]")));
         
-        // Find all job links
-        List<WebElement> jobLinks = driver.findElements(By.xpath("//a[contains(@href, '/global/en/job/')]"));
+        // Scan result cards page by page, stopping at the first title that matches
+        SearchResultScanner.Result result = new SearchResultScanner(driver,
+            TestConfig.getInt("search.maxPages", 10),
+            ELEMENT_TIMEOUT,
+            Duration.ofSeconds(TestConfig.getInt("search.scrollTimeoutSeconds", 3))).find(jobTitle);
+        RunLog.record(RunEvent.SEARCH_SCANNED, jobTitle, result.matchedTitle(), result.pages(), result.cards());
         
-        if (jobLinks.isEmpty()) {
-            Assert.fail("No job listings found for: " + jobTitle + ". Verify if the job is active on the site and adjust the search term.");
+        if (result.match().isEmpty()) {
+            Assert.fail("No job listing titled \"" + jobTitle + "\" in " + result.cards() + " results on "
+                + result.pages() + " page(s). Verify if the job is active on the site and adjust the search term.");
         }
         
-        // Click the first job and handle expandable content
-        jobLinks.get(0).click();
+        // Click the matching job and handle expandable content
+        result.match().get().click();
         handleExpandableContent();
+        snapshots.invalidate();
+        PagePerformance.capture(driver, "job-detail");
+        applyPrefetcher.warm(driver);
+    }
+    
+    // ============================================================================
+    // BATCH VALIDATION STEPS
+    // ============================================================================
+    
+    @When("I validate all jobs matching {string} in batch")
+    public void validateAllMatchingJobs(String filter) {
+        wait.until(ExpectedConditions.presenceOfElementLocated(
+            By.xpath("//div[contains(@class, 'search-results') or contains(@id, 'search-results')]")));
+        
+        // -Dbatch.tabs controls how many job pages load in parallel within this session
+        BatchJobValidator validator = new BatchJobValidator(driver,
+            TestConfig.getInt("batch.tabs", 4),
+            Duration.ofSeconds(TestConfig.getLong("batch.pageTimeoutSeconds", 30)));
+        List<String> urls = validator.matchingJobUrls(filter, TestConfig.getInt("batch.maxJobs", 50));
+        if (urls.isEmpty()) {
+            Assert.fail("No job listings found matching: " + filter);
+        }
+        
+        batchResults = validator.validate(urls);
+        for (BatchJobValidator.Row row : batchResults) {
+            RunLog.record(RunEvent.BATCH_JOB, row.url(), row.title(), row.status(), row.millis());
+        }
+        RunLog.record(RunEvent.BATCH_FINISHED, filter, batchResults.size());
+        // Per-job summary in the scenario's report and console output
+        String table = BatchJobValidator.table(batchResults);
+        scenario.attach(table, "text/plain", "batch-results.txt");
+        scenario.log(table);
+    }
+    
+    @Then("every batch-validated job has a title, location and job ID")
+    public void verifyBatchResults() {
+        Assert.assertNotNull("No batch validation has run in this scenario", batchResults);
+        List<String> failures = batchResults.stream()
+            .filter(row -> !row.isComplete())
+            .map(row -> row.url() + (row.error() != null ? " (" + row.error() + ")" : ""))
+            .toList();
+        Assert.assertTrue("Incomplete job postings:\n" + String.join("\n", failures), failures.isEmpty());
     }
     
     // ============================================================================
@@ -92,52 +185,57 @@ public class LabcorpSteps {
     
     @Then("I validate the job title as {string}")
     public void validateJobTitle(String expectedTitle) {
-        WebElement titleElement = findJobTitleElement();
-        String actualTitle = titleElement.getText().trim();
+        String actualTitle = currentJobDetails().title();
         Assert.assertFalse("Job title should not be empty", actualTitle.isEmpty());
-        System.out.println("Job Title: " + actualTitle);
+        RunLog.record(RunEvent.JOB_FIELD, "title", actualTitle);
     }
     
     @Then("I validate the job location contains {string}")
     public void validateJobLocation(String expectedLocation) {
-        WebElement locationElement = findJobLocationElement();
-        String actualLocation = locationElement.getText().trim();
+        String actualLocation = currentJobDetails().location();
         Assert.assertFalse("Job location should not be empty", actualLocation.isEmpty());
         Assert.assertTrue("Job location should contain: " + expectedLocation, 
             actualLocation.toLowerCase().contains(expectedLocation.toLowerCase()));
-        System.out.println("Job Location: " + actualLocation);
+        RunLog.record(RunEvent.JOB_FIELD, "location", actualLocation);
     }
     
     @Then("I validate the job ID is present")
     public void validateJobId() {
-        String jobId = findJobId();
+        String jobId = currentJobDetails().jobId();
         Assert.assertFalse("Job ID should not be empty", jobId.isEmpty());
         Assert.assertTrue("Job ID should contain 'Job ID'", jobId.toLowerCase().contains("job id"));
-        System.out.println("Job ID found: " + jobId);
+        RunLog.record(RunEvent.JOB_FIELD, "jobId", jobId);
     }
     
     @Then("I confirm the first sentence of the introduction as {string}")
     public void confirmIntroductionSentence(String expectedText) {
-        String introText = findJobIntroduction();
+        JobDetailSnapshot details = currentJobDetails();
+        String introText = details.introduction();
         Assert.assertFalse("Introduction text should not be empty", introText.isEmpty());
-        System.out.println("Job Description/Introduction found: " + 
-            introText.substring(0, Math.min(200, introText.length())) + "...");
+        RunLog.record(RunEvent.JOB_FIELD, "introduction", introText);
+        reportTextMatch("Introduction sentence", details.text(), expectedText);
     }
     
     @Then("I confirm a requirement as {string}")
     public void confirmRequirement(String expectedText) {
-        String reqText = findJobRequirements();
+        JobDetailSnapshot details = currentJobDetails();
+        String reqText = details.requirements();
         Assert.assertFalse("Requirements section should not be empty", reqText.isEmpty());
-        System.out.println("Requirements found: " + 
-            reqText.substring(0, Math.min(200, reqText.length())) + "...");
+        RunLog.record(RunEvent.JOB_FIELD, "requirements", reqText);
+        reportTextMatch("Requirement", details.text(), expectedText);
     }
     
     @Then("I confirm the mention of {string} as a required skill")
     public void confirmSkillMention(String skill) {
-        String skillsText = driver.findElement(By.tagName("body")).getText();
-        Assert.assertFalse("Page content should not be empty", skillsText.isEmpty());
-        System.out.println("Page contains skills/technology mentions: " + 
-            (skillsText.length() > 0 ? "Yes" : "No"));
+        PageTextIndex text = currentJobDetails().text();
+        Assert.assertFalse("Page content should not be empty", text.text().isEmpty());
+        List<String> mentions = text.sentencesMentioning(skill);
+        RunLog.record(RunEvent.SKILL_MENTIONED, skill, mentions.size());
+    }
+    
+    // Postings change often, so exact sentences are reported rather than asserted
+    private void reportTextMatch(String label, PageTextIndex text, String expected) {
+        RunLog.record(RunEvent.TEXT_MATCH, label, expected, text.mentions(expected));
     }
     
     // ============================================================================
@@ -157,6 +255,7 @@ public class LabcorpSteps {
         // Find and click the button
         WebElement button = findClickableButton(buttonText);
         clickElement(button, buttonText);
+        snapshots.invalidate();
         
         // Handle application page if Apply Now was clicked
         if (buttonText.equals("Apply Now")) {
@@ -174,19 +273,17 @@ public class LabcorpSteps {
                 driver.close();
                 String remainingWindow = allWindows.iterator().next();
                 driver.switchTo().window(remainingWindow);
-                System.out.println("✅ Returned to job search page");
-            } else {
-                System.out.println("✅ Already on job search page");
             }
             
             // Validate we're back on a job-related page
             wait.until(ExpectedConditions.visibilityOfElementLocated(By.tagName("body")));
             String currentUrl = driver.getCurrentUrl();
+            RunLog.record(RunEvent.RETURNED_TO_SEARCH, currentUrl, allWindows.size() > 1);
             Assert.assertTrue("Should be on a job or career page", 
                 currentUrl.contains("job") || currentUrl.contains("career") || currentUrl.contains("labcorp"));
                 
         } catch (Exception e) {
-            System.out.println("❌ Error returning to job search: " + e.getMessage());
+            RunLog.record(RunEvent.STEP_WARNING, "returnToJobSearchPage", e.getMessage());
         }
     }
     
@@ -197,7 +294,7 @@ public class LabcorpSteps {
     @Then("the application page job title matches {string}")
     public void validateAppPageTitle(String expectedTitle) {
         if (!applicationPageLoaded) {
-            System.out.println("⚠️ Skipping application page validation - page did not load successfully");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "title", "application page not loaded");
             return;
         }
         
@@ -205,16 +302,16 @@ public class LabcorpSteps {
             WebElement titleElement = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//h1")));
             String actualTitle = titleElement.getText().trim();
             Assert.assertFalse("Application page job title should not be empty", actualTitle.isEmpty());
-            System.out.println("✅ Apply page job title: " + actualTitle);
+            RunLog.record(RunEvent.APPLY_FIELD, "title", actualTitle);
         } catch (TimeoutException e) {
-            System.out.println("⚠️ Could not find title on application page - may be different page structure");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "title", "no title element, different page structure");
         }
     }
     
     @Then("the application page job location matches {string}")
     public void validateAppPageLocation(String expectedLocation) {
         if (!applicationPageLoaded) {
-            System.out.println("⚠️ Skipping location validation - application page not loaded");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "location", "application page not loaded");
             return;
         }
         
@@ -222,44 +319,67 @@ public class LabcorpSteps {
             WebElement locationElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
                 By.xpath("//*[contains(@class, 'location')]")));
             String actualLocation = locationElement.getText().trim();
-            System.out.println("✅ Apply page location: " + actualLocation);
+            RunLog.record(RunEvent.APPLY_FIELD, "location", actualLocation);
         } catch (TimeoutException e) {
-            System.out.println("⚠️ Could not find location on application page");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "location", "no location element");
         }
     }
     
     @Then("the application page job ID is present")
     public void validateAppPageJobId() {
         if (!applicationPageLoaded) {
-            System.out.println("⚠️ Skipping job ID validation - application page not loaded");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "jobId", "application page not loaded");
             return;
         }
         
         String currentUrl = driver.getCurrentUrl();
         if (currentUrl.contains("job") || currentUrl.contains("apply")) {
-            System.out.println("✅ Apply page job ID confirmed from URL: " + currentUrl);
+            RunLog.record(RunEvent.APPLY_FIELD, "jobIdFromUrl", currentUrl);
         } else {
-            System.out.println("⚠️ Could not find job ID on application page");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "jobId", "job ID not in URL");
         }
     }
     
     @Then("the application page confirms a requirement as {string}")
     public void confirmAppPageRequirement(String expectedText) {
         if (!applicationPageLoaded) {
-            System.out.println("⚠️ Skipping requirements validation - application page not loaded");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "requirements", "application page not loaded");
             return;
         }
         
         try {
-            WebElement bodyContent = wait.until(ExpectedConditions.visibilityOfElementLocated(By.tagName("body")));
-            String pageText = bodyContent.getText();
-            Assert.assertFalse("Application page should have content", pageText.isEmpty());
-            System.out.println("✅ Apply page requirements validation - page content confirmed");
+            wait.until(ExpectedConditions.visibilityOfElementLocated(By.tagName("body")));
+            PageTextIndex pageText = snapshots.get(driver).text();
+            Assert.assertFalse("Application page should have content", pageText.text().isEmpty());
+            RunLog.record(RunEvent.APPLY_FIELD, "contentLength", String.valueOf(pageText.text().length()));
+            reportTextMatch("Apply page requirement", pageText, expectedText);
         } catch (Exception e) {
-            System.out.println("⚠️ Could not validate application page content");
+            RunLog.record(RunEvent.APPLY_CHECK_SKIPPED, "requirements", e.getMessage());
         }
     }
     
+    // ============================================================================
+    // PAGE PERFORMANCE STEPS
+    // ============================================================================
+    
+    @Then("the page loads within {int} ms")
+    public void pageLoadsWithin(int budgetMs) {
+        PagePerformance.PageTiming timing = PagePerformance.awaitLoaded(driver, "page", ELEMENT_TIMEOUT);
+        Assert.assertTrue(String.format("%s page (%s) loaded in %d ms, budget is %d ms (slowest resource: %s, %d ms)",
+                timing.page(), timing.url(), timing.loadMs(), budgetMs, timing.slowestResource(), timing.slowestResourceMs()),
+            timing.loadMs() <= budgetMs);
+    }
+    
+    @Then("the first contentful paint happens within {int} ms")
+    public void firstContentfulPaintWithin(int budgetMs) {
+        PagePerformance.PageTiming timing = PagePerformance.awaitLoaded(driver, "page", ELEMENT_TIMEOUT);
+        Assert.assertTrue(timing.page() + " page (" + timing.url() + ") has no first contentful paint",
+            timing.firstContentfulPaintMs() > 0);
+        Assert.assertTrue(String.format("%s page (%s) first painted content at %d ms, budget is %d ms",
+                timing.page(), timing.url(), timing.firstContentfulPaintMs(), budgetMs),
+            timing.firstContentfulPaintMs() <= budgetMs);
+    }
+    
     // ============================================================================
     // ENHANCED APPLICATION PAGE HANDLING 
     // ============================================================================
@@ -267,70 +387,85 @@ public class LabcorpSteps {
     private void handleApplicationPageOrFallback(String originalWindow) {
         try {
             // Wait for new tab to open
-            WebDriverWait tabWait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            tabWait.until(driver -> driver.getWindowHandles().size() > 1);
-            
-            Set<String> allWindows = driver.getWindowHandles();
+            WebDriverWait tabWait = new InstrumentedWait(driver, Duration.ofSeconds(10), "new-tab");
+            // The prefetch tab, if any, is already open and must not be mistaken for the new one
+            String warmTab = applyPrefetcher.warmTab();
+            String openedTab = tabWait.until(driver -> driver.getWindowHandles().stream()
+                .filter(window -> !window.equals(originalWindow) && !window.equals(warmTab))
+                .findFirst().orElse(null));
             
-            // Switch to new tab
-            for (String window : allWindows) {
-                if (!window.equals(originalWindow)) {
-                    driver.switchTo().window(window);
-                    System.out.println("Switched to new application tab");
-                    break;
-                }
-            }
+            // Switch to new tab, or to the warm tab when it already holds the same page
+            driver.switchTo().window(openedTab);
+            String window = applyPrefetcher.adopt(driver, openedTab);
+            RunLog.record(RunEvent.TAB_SWITCHED, window, "application page");
             
-            // 🆕 Enhanced: Wait for document ready state instead of fixed sleep
+            // Wait for network idle and first paint instead of a fixed sleep
             waitForPageToFullyLoad(driver, 15);
             
             String pageTitle = driver.getTitle();
             String currentUrl = driver.getCurrentUrl();
-            String pageSource = driver.getPageSource();
             
-            // 🆕 Enhanced: Better error page detection
-            boolean isErrorPage = isActualErrorPage(pageTitle, currentUrl, pageSource);
+            // Error detection from the recorded HTTP response instead of the page source
+            boolean isErrorPage = isActualErrorPage(pageTitle, currentUrl,
+                responseMonitor.mainDocument(driver).orElse(null));
             
             if (isErrorPage) {
-                System.out.println("❌ Application page failed to load - Error page detected");
-                System.out.println("Page Title: " + pageTitle);
-                System.out.println("Current URL: " + currentUrl);
+                RunLog.record(RunEvent.APPLY_ERROR_PAGE, pageTitle, currentUrl);
                 
                 // Close error tab and return to original
                 driver.close();
                 driver.switchTo().window(originalWindow);
-                System.out.println("✅ Closed error tab and returned to job details page");
+                RunLog.record(RunEvent.TAB_SWITCHED, originalWindow, "closed error page");
                 
                 applicationPageLoaded = false;
             } else {
-                System.out.println("✅ Application page loaded successfully");
-                System.out.println("Page Title: " + (pageTitle.isEmpty() ? "(Empty title - this is normal for Workday)" : pageTitle));
-                System.out.println("Current URL: " + currentUrl);
+                // An empty title is normal for Workday
+                RunLog.record(RunEvent.APPLY_LOADED, pageTitle, currentUrl);
+                PagePerformance.capture(driver, "application");
                 
                 handleCookieConsent();
-                applicationPageLoaded = true; // 🎯 This should now be set correctly
+                applicationPageLoaded = true;
             }
             
         } catch (Exception e) {
-            System.out.println("❌ Error handling application page: " + e.getMessage());
+            RunLog.record(RunEvent.STEP_WARNING, "handleApplicationPageOrFallback", e.getMessage());
             applicationPageLoaded = false;
         }
     }
     
-    // 🆕 Method to wait for document ready state
+    // DevTools readiness events when available, otherwise document.readyState polling
     private void waitForPageToFullyLoad(WebDriver driver, int timeoutInSeconds) {
+        if (pageReadiness.isAvailable()) {
+            try {
+                PageReadiness.Signal signal = pageReadiness.await(driver, Duration.ofSeconds(timeoutInSeconds));
+                if (signal.isReady()) {
+                    RunLog.record(RunEvent.PAGE_READY, "networkIdle+firstContentfulPaint", signal.elapsedNanos() / 1_000_000);
+                } else {
+                    // Proceed anyway
+                    RunLog.record(RunEvent.PAGE_READY_TIMEOUT, signal.missing() + " (" + signal.inFlight() + " requests in flight)");
+                }
+                return;
+            } catch (RuntimeException e) {
+                // Tab could not be attached; fall back to polling below
+                RunLog.record(RunEvent.STEP_WARNING, "waitForPageToFullyLoad", e.getMessage());
+            }
+        }
+        
+        // No DevTools: poll the document state
+        long start = System.nanoTime();
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds)).until(
+            new InstrumentedWait(driver, Duration.ofSeconds(timeoutInSeconds), "document-ready").until(
                 webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete")
             );
-            System.out.println("✅ Page fully loaded (document.readyState = complete)");
+            RunLog.record(RunEvent.PAGE_READY, "complete", (System.nanoTime() - start) / 1_000_000);
         } catch (TimeoutException e) {
-            System.out.println("⚠️ Page load timeout - proceeding anyway");
+            // Proceed anyway
+            RunLog.record(RunEvent.PAGE_READY_TIMEOUT, "complete");
         }
     }
     
-    // 🆕 More accurate error page detection
-    private boolean isActualErrorPage(String pageTitle, String currentUrl, String pageSource) {
+    // Title and URL hints, then the recorded HTTP status; 2xx pages are still probed for soft 404s
+    private boolean isActualErrorPage(String pageTitle, String currentUrl, ResponseMonitor.DocumentResponse response) {
         // Check for explicit error indicators
         if (pageTitle != null) {
             String titleLower = pageTitle.toLowerCase();
@@ -348,215 +483,77 @@ public class LabcorpSteps {
             return true;
         }
         
-        // Check page content for error messages
-        if (pageSource != null) {
-            String sourceLower = pageSource.toLowerCase();
-            if (sourceLower.contains("404 - file or directory not found") ||
-                sourceLower.contains("page not found") ||
-                sourceLower.contains("the page you are looking for does not exist") ||
-                sourceLower.contains("http error 404")) {
+        // Check the HTTP status and size the browser recorded for the document
+        if (response != null && !response.isUnknown()) {
+            RunLog.record(RunEvent.APPLY_RESPONSE, response.url(), response.source(), response.contentLength(), response.status());
+            if (response.status() >= 400) {
                 return true;
             }
         }
         
-        // Check for extremely small page size (less than 500 characters might indicate error)
-        if (pageSource == null || pageSource.trim().length() < 500) {
-            return true;
-        }
-        
-        // If we get here, it's likely a valid page (even with empty title)
-        return false;
+        // A 200 can still be a "page not found" shell: probe the DOM in-page rather than downloading the source
+        return probePageForError();
+    }
+    
+    private boolean probePageForError() {
+        Object isError = ((JavascriptExecutor) driver).executeScript(
+            "var html = document.documentElement ? document.documentElement.outerHTML : '';" +
+            "if (html.trim().length < 500) return true;" +
+            "var text = (document.body ? document.body.innerText : '').toLowerCase();" +
+            "return ['404 - file or directory not found', 'page not found'," +
+            "        'the page you are looking for does not exist', 'http error 404']" +
+            "  .some(function (phrase) { return text.indexOf(phrase) >= 0; });");
+        return Boolean.TRUE.equals(isError);
     }
     
     // ============================================================================
     // HELPER METHODS FOR ELEMENT FINDING
     // ============================================================================
     
-    private WebElement findJobTitleElement() {
-        try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//h1")));
-        } catch (TimeoutException e) {
-            try {
-                return wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//h2")));
-            } catch (TimeoutException e2) {
-                return wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("//*[contains(@class, 'job-title')]")));
-            }
-        }
+    // One extraction per page: wait for the title to render and the DOM to go quiet first
+    private JobDetailSnapshot currentJobDetails() {
+        return snapshots.peek(driver).orElseGet(() -> {
+            findJobTitleElement();
+            waitForPageToSettle(PageConditions.domStable(QUIET_PERIOD));
+            return snapshots.get(driver);
+        });
     }
     
-    private WebElement findJobLocationElement() {
-        try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.xpath("//*[contains(@class, 'location')]")));
-        } catch (TimeoutException e) {
-            try {
-                return wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("//*[contains(text(), 'Location')]")));
-            } catch (TimeoutException e2) {
-                return wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("//*[contains(@class, 'office') or contains(@class, 'city')]")));
-            }
-        }
-    }
-    
-    private String findJobId() {
-        try {
-            WebElement idElement = wait.until(ExpectedConditions.visibilityOfElementLocated(By.className("jobId")));
-            return idElement.getText().trim();
-        } catch (TimeoutException e) {
-            try {
-                WebElement idElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("//span[contains(text(), 'Job ID :')]")));
-                return idElement.getText().trim();
-            } catch (TimeoutException e2) {
-                WebElement idElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.xpath("//*[contains(text(), 'Job ID')]")));
-                return idElement.getText().trim();
-            }
-        }
-    }
-    
-    private String findJobIntroduction() {
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.tagName("body")));
-        
-        // Try multiple strategies to find introduction content
-        List<String> contentSelectors = List.of(
-            "//*[contains(@class, 'job-description')]//text()[string-length(.) > 30]",
-            "//*[contains(@class, 'description')]//text()[string-length(.) > 30]", 
-            "//*[contains(@class, 'content')]//text()[string-length(.) > 30]",
-            "//div[string-length(text()) > 50]",
-            "//p[string-length(text()) > 50]"
-        );
-        
-        for (String selector : contentSelectors) {
-            try {
-                List<WebElement> elements = driver.findElements(By.xpath(selector));
-                if (!elements.isEmpty()) {
-                    String text = elements.get(0).getText().trim();
-                    if (!text.isEmpty()) {
-                        return text;
-                    }
-                }
-            } catch (Exception e) {
-                // Continue to next selector
-            }
-        }
-        
-        // Fallback: get any visible text from page body
-        WebElement bodyElement = driver.findElement(By.tagName("body"));
-        String pageText = bodyElement.getText().trim();
-        if (!pageText.isEmpty()) {
-            String[] sentences = pageText.split("\\.|\\n");
-            for (String sentence : sentences) {
-                if (sentence.trim().length() > 20) {
-                    return sentence.trim();
-                }
-            }
-        }
-        
-        return "Job page content confirmed";
+    private WebElement findJobTitleElement() {
+        return resolveFirst(LocatorRace.Mode.VISIBLE, "job title",
+            By.xpath("//h1"),
+            By.xpath("//h2"),
+            By.xpath("//*[contains(@class, 'job-title')]"));
     }
     
-    private String findJobRequirements() {
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Strategy 1: Look for requirements class elements
-        List<WebElement> reqElements = driver.findElements(By.xpath("//*[contains(@class, 'requirements')]"));
-        if (!reqElements.isEmpty()) {
-            for (WebElement elem : reqElements) {
-                String text = elem.getText().trim();
-                if (!text.isEmpty()) {
-                    return text;
-                }
-            }
-        }
-        
-        // Strategy 2: Look for qualifications
-        List<WebElement> qualElements = driver.findElements(By.xpath("//*[contains(@class, 'qualifications')]"));
-        if (!qualElements.isEmpty()) {
-            for (WebElement elem : qualElements) {
-                String text = elem.getText().trim();
-                if (!text.isEmpty()) {
-                    return text;
-                }
-            }
-        }
-        
-        // Strategy 3: Look for keyword-based content
-        List<String> keywords = List.of("experience", "years", "required", "qualification", "skill");
-        for (String keyword : keywords) {
-            List<WebElement> textElements = driver.findElements(
-                By.xpath("//*[contains(text(), '" + keyword + "')]"));
-            if (!textElements.isEmpty()) {
-                for (WebElement elem : textElements) {
-                    String text = elem.getText().trim();
-                    if (text.length() > 10) {
-                        return text;
-                    }
-                }
-            }
-        }
-        
-        // Fallback: get substantial text from page
-        WebElement bodyElement = driver.findElement(By.tagName("body"));
-        String pageText = bodyElement.getText().trim();
-        String[] paragraphs = pageText.split("\\n");
-        for (String paragraph : paragraphs) {
-            if (paragraph.trim().length() > 50) {
-                return paragraph.trim();
-            }
-        }
-        
-        return "Requirements section found";
+    // Evaluates the whole fallback chain in one polling loop; earlier locators win ties
+    private WebElement resolveFirst(LocatorRace.Mode mode, String description, By... candidates) {
+        LocatorRace.Result result = LocatorRace.resolve(driver, ELEMENT_TIMEOUT, mode, candidates);
+        RunLog.record(RunEvent.LOCATOR_RESOLVED, description, result.locator(), result.index(), result.elapsed().toMillis());
+        return result.element();
     }
     
     private WebElement findClickableButton(String buttonText) {
+        List<By> candidates;
         if (buttonText.equals("Apply Now")) {
-            try {
-                WebElement button = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//ppc-content[contains(text(), 'Apply Now')]")));
-                System.out.println("Found Apply Now button using ppc-content xpath");
-                return button;
-            } catch (TimeoutException e1) {
-                try {
-                    WebElement button = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.cssSelector("ppc-content[data-ph-at-id='apply-text'][data-ph-id*='applyNowButtonText']")));
-                    System.out.println("Found Apply Now button using data attributes");
-                    return button;
-                } catch (TimeoutException e2) {
-                    Assert.fail("Could not find Apply Now button");
-                }
-            }
+            candidates = List.of(
+                By.xpath("//ppc-content[contains(text(), 'Apply Now')]"),
+                By.cssSelector("ppc-content[data-ph-at-id='apply-text'][data-ph-id*='applyNowButtonText']"));
         } else {
             // For other buttons, use general approach
-            List<String> buttonPatterns = List.of(
-                "//button[contains(text(), '" + buttonText + "')]",
-                "//a[contains(text(), '" + buttonText + "')]", 
-                "//input[@value='" + buttonText + "']"
-            );
-            
-            for (String pattern : buttonPatterns) {
-                try {
-                    return wait.until(ExpectedConditions.elementToBeClickable(By.xpath(pattern)));
-                } catch (TimeoutException e) {
-                    // Try next pattern
-                }
-            }
+            candidates = List.of(
+                By.xpath("//button[contains(text(), '" + buttonText + "')]"),
+                By.xpath("//a[contains(text(), '" + buttonText + "')]"), 
+                By.xpath("//input[@value='" + buttonText + "']"));
         }
         
-        Assert.fail("Could not find clickable button with text: " + buttonText);
-        return null;
+        try {
+            return resolveFirst(LocatorRace.Mode.CLICKABLE, "'" + buttonText + "' button",
+                candidates.toArray(new By[0]));
+        } catch (TimeoutException e) {
+            Assert.fail("Could not find clickable button with text: " + buttonText);
+            return null;
+        }
     }
     
     // ============================================================================
@@ -565,7 +562,7 @@ public class LabcorpSteps {
     
     private void waitForOverlaysToDisappear() {
         try {
-            WebDriverWait overlayWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait overlayWait = new InstrumentedWait(driver, Duration.ofSeconds(5), "overlay").expectsTimeout();
             overlayWait.until(ExpectedConditions.invisibilityOfElementLocated(
                 By.cssSelector(".modal-backdrop, .modal-overlay, .modal-dialog, .modal-fade, .overlay")));
         } catch (TimeoutException e) {
@@ -573,22 +570,28 @@ public class LabcorpSteps {
         }
     }
     
+    private void waitForPageToSettle(ExpectedCondition<Boolean> condition) {
+        try {
+            new InstrumentedWait(driver, SETTLE_TIMEOUT, "settle:" + condition).expectsTimeout().pollingEvery(SETTLE_POLLING).until(condition);
+        } catch (TimeoutException e) {
+            // Page kept changing; proceed with whatever has rendered
+        }
+    }
+    
     private void clickElement(WebElement element, String buttonText) {
         try {
             element.click();
-            System.out.println("Successfully clicked: " + buttonText);
+            RunLog.record(RunEvent.ELEMENT_CLICKED, buttonText, "native");
         } catch (ElementClickInterceptedException e) {
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-            System.out.println("Successfully clicked '" + buttonText + "' using JavaScript");
+            RunLog.record(RunEvent.ELEMENT_CLICKED, buttonText, "javascript");
         }
     }
     
     private void handleExpandableContent() {
         try {
-            Thread.sleep(2000);
+            waitForPageToSettle(PageConditions.pageSettled(QUIET_PERIOD));
             String mainWindowHandle = driver.getWindowHandle();
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            
             List<String> expandablePatterns = List.of(
                 "//a[contains(text(), 'See all')]",
                 "//a[contains(text(), 'see all')]", 
@@ -604,9 +607,13 @@ public class LabcorpSteps {
                     if (!expandLinks.isEmpty()) {
                         for (WebElement expandLink : expandLinks) {
                             if (expandLink.isDisplayed() && expandLink.isEnabled()) {
+                                int windowCount = driver.getWindowHandles().size();
+                                PageConditions.arm(driver);
                                 expandLink.click();
-                                System.out.println("Clicked expandable content: " + expandLink.getText());
-                                Thread.sleep(2000);
+                                if (RunLog.isEnabled(RunEvent.CONTENT_EXPANDED)) {
+                                    RunLog.record(RunEvent.CONTENT_EXPANDED, expandLink.getText());
+                                }
+                                waitForPageToSettle(PageConditions.newWindowOrDomStable(windowCount, QUIET_PERIOD));
                                 closeModalPopup(mainWindowHandle);
                                 expandedContent = true;
                                 break;
@@ -620,17 +627,16 @@ public class LabcorpSteps {
             }
             
             if (!expandedContent) {
-                System.out.println("No expandable content found - proceeding with assertions");
+                RunLog.record(RunEvent.CONTENT_NOT_EXPANDABLE);
             }
             
         } catch (Exception e) {
-            System.out.println("Expandable content handling completed (with or without expansion)");
+            RunLog.record(RunEvent.STEP_WARNING, "handleExpandableContent", e.getMessage());
         }
     }
     
     private void closeModalPopup(String mainWindowHandle) {
         try {
-            Thread.sleep(1000);
             Set<String> allWindowHandles = driver.getWindowHandles();
             
             if (allWindowHandles.size() > 1) {
@@ -638,89 +644,92 @@ public class LabcorpSteps {
                     if (!handle.equals(mainWindowHandle)) {
                         driver.switchTo().window(handle);
                         driver.close();
-                        System.out.println("Closed modal popup window: " + handle);
+                        RunLog.record(RunEvent.MODAL_CLOSED, "window", handle);
                     }
                 }
                 driver.switchTo().window(mainWindowHandle);
             } else {
                 try {
-                    WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(3));
+                    WebDriverWait shortWait = new InstrumentedWait(driver, Duration.ofSeconds(3), "modal-close").expectsTimeout();
                     WebElement closeButton = shortWait.until(ExpectedConditions.elementToBeClickable(
                         By.xpath("//button[contains(@class, 'close') or contains(text(), 'Close') or contains(text(), 'X')] | //span[contains(@class, 'close')] | //*[@data-dismiss='modal']")));
+                    PageConditions.arm(driver);
                     closeButton.click();
-                    System.out.println("Clicked modal close button");
+                    RunLog.record(RunEvent.MODAL_CLOSED, "close button");
                 } catch (TimeoutException e) {
                     driver.findElement(By.tagName("body")).sendKeys(Keys.ESCAPE);
-                    System.out.println("Pressed ESC to close modal");
+                    RunLog.record(RunEvent.MODAL_CLOSED, "escape");
                 }
             }
             
-            WebDriverWait overlayWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait overlayWait = new InstrumentedWait(driver, Duration.ofSeconds(10), "modal-overlay").expectsTimeout();
             try {
                 overlayWait.until(ExpectedConditions.invisibilityOfElementLocated(
                     By.cssSelector(".modal-backdrop, .modal-overlay, .modal-dialog, .modal-fade, .overlay")));
-                System.out.println("Modal overlay disappeared");
+                RunLog.record(RunEvent.MODAL_OVERLAY, "gone");
             } catch (TimeoutException e) {
-                System.out.println("No modal overlay found or already disappeared");
+                RunLog.record(RunEvent.MODAL_OVERLAY, "still visible");
             }
             
-            Thread.sleep(1500);
+            waitForPageToSettle(PageConditions.domStable(QUIET_PERIOD));
             
         } catch (Exception e) {
-            System.out.println("Modal close handling completed with potential issues: " + e.getMessage());
+            RunLog.record(RunEvent.STEP_WARNING, "closeModalPopup", e.getMessage());
         }
     }
     
     private void handleCookieConsent() {
         try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            
-            List<By> cookieButtonLocators = List.of(
-                By.id("onetrust-accept-btn-handler"),
-                By.xpath("//button[contains(text(), 'Accept Cookies')]"),
-                By.xpath("//button[contains(text(), 'Accept All Cookies')]"),
-                By.xpath("//button[contains(text(), 'I Agree')]"),
-                By.xpath("//button[contains(text(), 'Accept')]"),
-                By.xpath("//button[contains(@class, 'cookie') and contains(text(), 'Accept')]"),
-                By.xpath("//a[contains(text(), 'Accept Cookies')]")
-            );
-            
-            for (By locator : cookieButtonLocators) {
-                try {
-                    List<WebElement> elements = driver.findElements(locator);
-                    if (!elements.isEmpty() && elements.get(0).isDisplayed()) {
-                        WebElement acceptButton = shortWait.until(ExpectedConditions.elementToBeClickable(locator));
-                        acceptButton.click();
-                        System.out.println("Clicked cookie consent button: " + acceptButton.getText());
-                        
-                        try {
-                            shortWait.until(ExpectedConditions.invisibilityOfElementLocated(By.className("modal-backdrop")));
-                        } catch (TimeoutException e) {
-                            // No overlay to wait for
-                        }
-                        return;
-                    }
-                } catch (TimeoutException e) {
-                    // Try next locator
-                    continue;
-                }
+            // Single round trip when no banner is showing
+            String clicked = ConsentManager.dismiss(driver);
+            if (clicked == null) {
+                RunLog.record(RunEvent.CONSENT_ABSENT);
+                return;
             }
+            RunLog.record(RunEvent.CONSENT_DISMISSED, clicked);
             
-            System.out.println("No cookie consent popup found or already handled");
+            try {
+                new InstrumentedWait(driver, Duration.ofSeconds(5), "consent-backdrop").expectsTimeout().until(
+                    ExpectedConditions.invisibilityOfElementLocated(By.className("modal-backdrop")));
+            } catch (TimeoutException e) {
+                // No overlay to wait for
+            }
             
         } catch (Exception e) {
-            System.out.println("Cookie consent handling completed with potential issues: " + e.getMessage());
+            RunLog.record(RunEvent.STEP_WARNING, "handleCookieConsent", e.getMessage());
         }
     }
     
     // ============================================================================
-    // CLEANUP
+    // SCENARIO HOOKS
     // ============================================================================
     
+    @Before
+    public void rememberScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
     @After
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        try {
+            if (driver != null && ApplyPrefetcher.isEnabled()) {
+                applyPrefetcher.discard(driver);
+            }
+            if (networkUsage != null) {
+                networkUsage.report();
+            }
+            if (pageReadiness != null) {
+                pageReadiness.close();
+            }
+            if (responseMonitor != null) {
+                responseMonitor.close();
+            }
+        } finally {
+            // Only quits the session owned by this scenario's thread; must run even when a
+            // report above fails, or the next scenario on this thread finds a session open
+            DriverManager.quitDriver();
+            driver = null;
+            wait = null;
         }
     }
 }
@@ -0,0 +1,32 @@
+package com.labcorp.automation.steps;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.metrics.PagePerformance;
+import com.labcorp.automation.support.metrics.WaitBudgets;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+
+import java.nio.file.Path;
+
+// Glue rather than a plugin, so history is saved whatever plugins a run registers
+public class MetricsHooks {
+
+    // Right after the correlation id, so page timings from later @Before hooks belong to the scenario
+    @Before(order = 1)
+    public void beginScenario(Scenario scenario) {
+        PagePerformance.beginScenario(scenario.getName());
+    }
+
+    @After(order = 1)
+    public void endScenario() {
+        PagePerformance.endScenario();
+    }
+
+    @AfterAll
+    public static void saveHistory() {
+        WaitBudgets.save();
+        PagePerformance.save(Path.of(TestConfig.get("metrics.dir", "target/metrics")));
+    }
+}
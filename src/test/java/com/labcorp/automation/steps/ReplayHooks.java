@@ -0,0 +1,13 @@
+package com.labcorp.automation.steps;
+
+import com.labcorp.automation.support.replay.Replay;
+import io.cucumber.java.After;
+
+public class ReplayHooks {
+
+    // Higher order runs first for @After, so this happens before LabcorpSteps quits the driver
+    @After(order = 20000)
+    public void detachReplay() {
+        Replay.detach();
+    }
+}
@@ -0,0 +1,24 @@
+package com.labcorp.automation.steps;
+
+import com.labcorp.automation.support.log.RunLog;
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+
+public class RunLogHooks {
+
+    private long startNanos;
+
+    // Lowest order: the correlation id exists before any other @Before runs
+    @Before(order = 0)
+    public void beginScenario(Scenario scenario) {
+        startNanos = System.nanoTime();
+        RunLog.beginScenario(scenario.getName());
+    }
+
+    // Lowest order runs last for @After, after the driver has been released
+    @After(order = 0)
+    public void endScenario(Scenario scenario) {
+        RunLog.endScenario(scenario.getName(), scenario.getStatus().name(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
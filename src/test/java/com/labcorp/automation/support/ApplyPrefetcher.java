@@ -0,0 +1,257 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.InstrumentedWait;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Speculatively warms the Workday application page while the job-detail assertions run.
+ *
+ * Selected with {@code -Dprefetch.apply}:
+ * <ul>
+ *   <li>{@code off} (default) - nothing happens.</li>
+ *   <li>{@code hint} - a {@code <link rel=dns-prefetch>} for the Apply Now host is injected
+ *       into the job page. Chrome partitions its HTTP cache and connection pool by top-level
+ *       site, so a document prefetch or preconnect made from the job page cannot be reused by
+ *       the new Workday tab; only the host resolution carries over.</li>
+ *   <li>{@code tab} - the target is loaded in a background tab of the same session. When
+ *       Apply Now opens its own tab on the same URL, that tab is closed and the warm one is
+ *       adopted in its place.</li>
+ * </ul>
+ * Outcomes are counted for the whole JVM and printed on exit. Hits are only possible in tab
+ * mode. In hint mode only application pages that opened a new connection are judged: those
+ * with a zero-length DNS lookup are counted as zero-DNS, the rest as misses. A page that
+ * reused a connection skips DNS whether or not the hint helped, so it is counted apart. A
+ * zero-DNS page may also have been served from a DNS cache, so the zero-DNS share is an upper
+ * bound on what the hint saved, not a count of pages it warmed.
+ */
+public final class ApplyPrefetcher {
+
+    public enum Mode { OFF, HINT, TAB }
+
+    private static final String APPLY_TARGET_SCRIPT =
+        "var labels = document.querySelectorAll(\"ppc-content[data-ph-at-id='apply-text'], ppc-content\");" +
+        "for (var i = 0; i < labels.length; i++) {" +
+        "  if (/apply now/i.test(labels[i].textContent)) {" +
+        "    var link = labels[i].closest('a[href]');" +
+        "    if (link) return link.href;" +
+        "  }" +
+        "}" +
+        "var fallback = document.querySelector(\"a[data-ph-at-id*='apply'][href]\");" +
+        "return fallback ? fallback.href : null;";
+
+    private static final String HINT_SCRIPT =
+        "var link = document.createElement('link');" +
+        "link.rel = 'dns-prefetch'; link.href = new URL(arguments[0]).origin;" +
+        "document.head.appendChild(link);";
+
+    private static final String DNS_LOOKUP_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "return nav ? {dns: nav.domainLookupEnd - nav.domainLookupStart, connect: nav.connectEnd - nav.connectStart} : null;";
+
+    private static final Duration MATCH_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration TARGET_TIMEOUT = Duration.ofSeconds(10);
+
+    // JVM-wide outcome counters
+    private static final AtomicLong ATTEMPTS = new AtomicLong();
+    private static final AtomicLong NO_TARGET = new AtomicLong();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong ZERO_DNS = new AtomicLong();
+    private static final AtomicLong REUSED_CONNECTION = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong UNUSED = new AtomicLong();
+
+    private static final Mode MODE = Mode.valueOf(TestConfig.get("prefetch.apply", "off").toUpperCase());
+
+    static {
+        if (MODE != Mode.OFF) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ApplyPrefetcher::printMetrics, "apply-prefetch-metrics"));
+        }
+    }
+
+    private String target;
+    private String warmTab;
+    private boolean pending;
+
+    public static boolean isEnabled() {
+        return MODE != Mode.OFF;
+    }
+
+    /** Reads the Apply Now target of the job page in focus and starts warming it. Focus is unchanged. */
+    public void warm(WebDriver driver) {
+        if (MODE == Mode.OFF) {
+            return;
+        }
+        ATTEMPTS.incrementAndGet();
+        target = applyTarget(driver);
+        if (target == null || !target.startsWith("http")) {
+            NO_TARGET.incrementAndGet();
+            RunLog.record(RunEvent.PREFETCH, MODE, "no target", null);
+            target = null;
+            return;
+        }
+        pending = true;
+        if (MODE == Mode.HINT) {
+            ((JavascriptExecutor) driver).executeScript(HINT_SCRIPT, target);
+        } else {
+            String jobWindow = driver.getWindowHandle();
+            driver.switchTo().newWindow(WindowType.TAB);
+            warmTab = driver.getWindowHandle();
+            // Non-blocking: the page keeps loading after focus returns to the job page
+            ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];", target);
+            driver.switchTo().window(jobWindow);
+        }
+        RunLog.record(RunEvent.PREFETCH, MODE, "started", target);
+    }
+
+    /** Handle of the background tab, so callers looking for newly opened tabs can ignore it. */
+    public String warmTab() {
+        return warmTab;
+    }
+
+    /**
+     * Called with focus on the tab Apply Now just opened. In tab mode, swaps it for the warm tab
+     * when both point at the same page; in hint mode, records whether the hint paid off.
+     * Returns the handle that now has focus.
+     */
+    public String adopt(WebDriver driver, String openedTab) {
+        if (!pending) {
+            return openedTab;
+        }
+        pending = false;
+        if (MODE == Mode.HINT) {
+            recordHintOutcome(driver);
+            return openedTab;
+        }
+
+        String openedUrl = settledUrl(driver);
+        if (openedUrl != null && samePage(openedUrl, target)) {
+            driver.close();
+            driver.switchTo().window(warmTab);
+            HITS.incrementAndGet();
+            RunLog.record(RunEvent.PREFETCH, MODE, "hit", target);
+            String adopted = warmTab;
+            warmTab = null;
+            return adopted;
+        }
+        MISSES.incrementAndGet();
+        RunLog.record(RunEvent.PREFETCH, MODE, "miss", openedUrl);
+        discardWarmTab(driver);
+        driver.switchTo().window(openedTab);
+        return openedTab;
+    }
+
+    /** Closes a warm tab that was never adopted, e.g. when Apply Now was not clicked. */
+    public void discard(WebDriver driver) {
+        if (pending) {
+            UNUSED.incrementAndGet();
+            pending = false;
+        }
+        if (warmTab == null) {
+            return;
+        }
+        try {
+            String current = driver.getWindowHandle();
+            boolean onWarmTab = current.equals(warmTab);
+            discardWarmTab(driver);
+            if (!onWarmTab) {
+                driver.switchTo().window(current);
+            }
+        } catch (RuntimeException e) {
+            // Session already gone; nothing left to clean up
+            warmTab = null;
+        }
+    }
+
+    private void discardWarmTab(WebDriver driver) {
+        if (warmTab == null) {
+            return;
+        }
+        try {
+            driver.switchTo().window(warmTab);
+            driver.close();
+        } catch (RuntimeException e) {
+            // Already closed by the page or the scenario
+        }
+        warmTab = null;
+    }
+
+    private void recordHintOutcome(WebDriver driver) {
+        Object timing = ((JavascriptExecutor) driver).executeScript(DNS_LOOKUP_SCRIPT);
+        String outcome;
+        if (!(timing instanceof Map<?, ?> lookup) || !(lookup.get("connect") instanceof Number connect)
+                || !(lookup.get("dns") instanceof Number dns)) {
+            MISSES.incrementAndGet();
+            outcome = "miss";
+        } else if (connect.doubleValue() == 0) {
+            REUSED_CONNECTION.incrementAndGet();
+            outcome = "reused connection";
+        } else if (dns.doubleValue() == 0) {
+            ZERO_DNS.incrementAndGet();
+            outcome = "zero dns";
+        } else {
+            MISSES.incrementAndGet();
+            outcome = "miss";
+        }
+        RunLog.record(RunEvent.PREFETCH, MODE, outcome, target);
+    }
+
+    // The Apply Now link is rendered after the job details; wait for it instead of reading too early
+    private static String applyTarget(WebDriver driver) {
+        try {
+            return new InstrumentedWait(driver, TARGET_TIMEOUT, "prefetch-target").expectsTimeout()
+                .until(d -> (String) ((JavascriptExecutor) d).executeScript(APPLY_TARGET_SCRIPT));
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    // The opened tab starts on about:blank; give it a moment to commit its navigation
+    private static String settledUrl(WebDriver driver) {
+        try {
+            return new InstrumentedWait(driver, MATCH_TIMEOUT, "prefetch-match").until(d -> {
+                String url = d.getCurrentUrl();
+                return url != null && url.startsWith("http") ? url : null;
+            });
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    // Same host and path; tracking parameters may differ between the two requests
+    private static boolean samePage(String a, String b) {
+        try {
+            URI first = URI.create(a);
+            URI second = URI.create(b);
+            return Objects.equals(first.getHost(), second.getHost()) && Objects.equals(first.getPath(), second.getPath());
+        } catch (IllegalArgumentException e) {
+            return a.equals(b);
+        }
+    }
+
+    private static void printMetrics() {
+        if (MODE == Mode.HINT) {
+            long judged = ZERO_DNS.get() + MISSES.get();
+            System.out.printf("Apply prefetch (hint): attempts=%d, noTarget=%d, zeroDns=%d, misses=%d, reusedConnection=%d, unused=%d, "
+                    + "zeroDnsRate=%.0f%% of new connections%n",
+                ATTEMPTS.get(), NO_TARGET.get(), ZERO_DNS.get(), MISSES.get(), REUSED_CONNECTION.get(), UNUSED.get(),
+                judged == 0 ? 0.0 : 100.0 * ZERO_DNS.get() / judged);
+            return;
+        }
+        long decided = HITS.get() + MISSES.get();
+        System.out.printf("Apply prefetch (%s): attempts=%d, noTarget=%d, hits=%d, misses=%d, unused=%d, hitRate=%.0f%%%n",
+            MODE.name().toLowerCase(), ATTEMPTS.get(), NO_TARGET.get(), HITS.get(), MISSES.get(),
+            UNUSED.get(), decided == 0 ? 0.0 : 100.0 * HITS.get() / decided);
+    }
+}
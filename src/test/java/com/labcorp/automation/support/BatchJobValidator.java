@@ -0,0 +1,153 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Validates many job postings in one browser session by pipelining them across tabs.
+ *
+ * {@code tabs} tabs are opened and each is pointed at a job URL with a non-blocking
+ * {@code location.href} assignment. The validator then cycles through the tabs: a tab whose
+ * new document has loaded and rendered its job details is captured with one
+ * {@link JobDetailSnapshot} script and immediately sent to the next URL, so pages keep loading in the background while
+ * assertions run on whichever tab is ready.
+ */
+public final class BatchJobValidator {
+
+    /** One row of the batch result table. */
+    public record Row(String url, String title, String location, String jobId, long millis, String error) {
+
+        public boolean isComplete() {
+            return error == null && !title.isEmpty() && !location.isEmpty() && !jobId.isEmpty();
+        }
+
+        /** {@code OK}, {@code incomplete}, or why the page could not be captured. */
+        public String status() {
+            return error != null ? error : isComplete() ? "OK" : "incomplete";
+        }
+    }
+
+    private static final String MATCHING_JOB_URLS_SCRIPT =
+        "var filter = arguments[0].toLowerCase(), seen = {}, out = [];" +
+        "document.querySelectorAll(\"a[href*='/global/en/job/']\").forEach(function (a) {" +
+        "  var text = (a.innerText || a.textContent || '').toLowerCase();" +
+        "  if (text.indexOf(filter) >= 0 && !seen[a.href]) { seen[a.href] = true; out.push(a.href); }" +
+        "});" +
+        "return out;";
+
+    private static final Duration IDLE_BACKOFF = Duration.ofMillis(50);
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(500);
+
+    private final WebDriver driver;
+    private final int tabs;
+    private final Duration pageTimeout;
+
+    public BatchJobValidator(WebDriver driver, int tabs, Duration pageTimeout) {
+        this.driver = driver;
+        this.tabs = tabs;
+        this.pageTimeout = pageTimeout;
+    }
+
+    /** Job detail URLs on the current page whose link text contains {@code filter}. */
+    @SuppressWarnings("unchecked")
+    public List<String> matchingJobUrls(String filter, int max) {
+        List<String> urls = (List<String>) ((JavascriptExecutor) driver).executeScript(MATCHING_JOB_URLS_SCRIPT, filter);
+        return urls.size() > max ? urls.subList(0, max) : urls;
+    }
+
+    public List<Row> validate(List<String> urls) {
+        String originalWindow = driver.getWindowHandle();
+        Deque<String> queue = new ArrayDeque<>(urls);
+        Map<String, String> urlByTab = new LinkedHashMap<>();
+        Map<String, Long> startByTab = new LinkedHashMap<>();
+        Map<String, Row> rows = new LinkedHashMap<>();
+        urls.forEach(url -> rows.put(url, null));
+
+        try {
+            for (int i = 0; i < tabs && !queue.isEmpty(); i++) {
+                driver.switchTo().newWindow(WindowType.TAB);
+                String tab = driver.getWindowHandle();
+                navigate(tab, queue.poll(), urlByTab, startByTab);
+            }
+
+            while (!urlByTab.isEmpty()) {
+                boolean progressed = false;
+                for (String tab : new ArrayList<>(urlByTab.keySet())) {
+                    driver.switchTo().window(tab);
+                    String url = urlByTab.get(tab);
+                    long elapsed = System.nanoTime() - startByTab.get(tab);
+
+                    Row row = null;
+                    try {
+                        row = JobDetailSnapshot.captureIfFreshlyLoaded(driver, QUIET_PERIOD)
+                            .map(s -> new Row(url, s.title(), s.location(), s.jobId(), elapsed / 1_000_000, null))
+                            .orElse(null);
+                    } catch (RuntimeException e) {
+                        // Script ran against a document that was being replaced; poll again
+                    }
+                    if (row == null && elapsed > pageTimeout.toNanos()) {
+                        row = new Row(url, "", "", "", elapsed / 1_000_000,
+                            "not loaded within " + pageTimeout.toSeconds() + "s");
+                    }
+                    if (row == null) {
+                        continue;
+                    }
+
+                    progressed = true;
+                    rows.put(url, row);
+                    if (queue.isEmpty()) {
+                        urlByTab.remove(tab);
+                        driver.close();
+                    } else {
+                        navigate(tab, queue.poll(), urlByTab, startByTab);
+                    }
+                }
+                if (!progressed) {
+                    LockSupport.parkNanos(IDLE_BACKOFF.toNanos());
+                }
+            }
+        } finally {
+            for (String tab : urlByTab.keySet()) {
+                driver.switchTo().window(tab);
+                driver.close();
+            }
+            driver.switchTo().window(originalWindow);
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /** Plain-text table of job, status and duration, one line per row, for the scenario report. */
+    public static String table(List<Row> rows) {
+        List<String> jobs = rows.stream().map(row -> row.title().isEmpty() ? row.url() : row.title()).toList();
+        int jobWidth = Math.max("Job".length(), jobs.stream().mapToInt(String::length).max().orElse(0));
+        int statusWidth = Math.max("Status".length(), rows.stream().mapToInt(row -> row.status().length()).max().orElse(0));
+        String format = "%-" + jobWidth + "s  %-" + statusWidth + "s  %8s%n";
+
+        StringBuilder table = new StringBuilder(String.format(format, "Job", "Status", "Duration"));
+        long complete = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            table.append(String.format(format, jobs.get(i), row.status(), row.millis() + " ms"));
+            complete += row.isComplete() ? 1 : 0;
+        }
+        table.append(complete).append(" of ").append(rows.size()).append(" jobs complete");
+        return table.toString();
+    }
+
+    // Non-blocking: returns as soon as the navigation has been requested
+    private void navigate(String tab, String url, Map<String, String> urlByTab, Map<String, Long> startByTab) {
+        ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];", url);
+        urlByTab.put(tab, url);
+        startByTab.put(tab, System.nanoTime());
+    }
+}
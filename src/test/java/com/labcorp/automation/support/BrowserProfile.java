@@ -0,0 +1,104 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Browser launch profiles, selected with {@code -Dbrowser.profile=standard|headless|lean}.
+ *
+ * <ul>
+ *   <li><b>standard</b> - headed, maximized, nothing blocked (the original behaviour).</li>
+ *   <li><b>headless</b> - headless Chrome with a fixed viewport.</li>
+ *   <li><b>lean</b> - headless with a fixed viewport, plus {@code Network.setBlockedURLs} for
+ *       images, fonts, media, analytics and chat widgets that no step asserts on.</li>
+ * </ul>
+ *
+ * Extra patterns can be appended with {@code -Dbrowser.blockedUrls=*.svg,*hotjar*} and the
+ * viewport changed with {@code -Dbrowser.viewport=1366x900}. Blocking is applied to the tab
+ * the session starts in; tabs opened later by the page load unfiltered.
+ */
+public enum BrowserProfile {
+
+    STANDARD(false, List.of()),
+    HEADLESS(true, List.of()),
+    LEAN(true, List.of(
+        // Images, fonts and media
+        "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico",
+        "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+        "*.mp4", "*.webm", "*.mp3",
+        // Analytics, tag managers and chat widgets
+        "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+        "*facebook.net*", "*hotjar.com*", "*linkedin.com/px*", "*bing.com/bat*",
+        "*demdex.net*", "*omtrdc.net*", "*adobedtm.com*", "*clarity.ms*",
+        "*livechatinc.com*", "*intercom.io*", "*drift.com*", "*qualtrics.com*"));
+
+    private final boolean headless;
+    private final List<String> blockedUrls;
+
+    BrowserProfile(boolean headless, List<String> blockedUrls) {
+        this.headless = headless;
+        this.blockedUrls = blockedUrls;
+    }
+
+    public static BrowserProfile current() {
+        return valueOf(TestConfig.get("browser.profile", "standard").toUpperCase());
+    }
+
+    public ChromeOptions options() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--disable-extensions");
+        // Keep console messages retrievable for failure evidence; buffering them costs a little per message
+        if (TestConfig.getBoolean("evidence.enabled", true)) {
+            LoggingPreferences logging = new LoggingPreferences();
+            logging.enable(LogType.BROWSER, Level.ALL);
+            options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        }
+        if (headless) {
+            Dimension viewport = viewport();
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=" + viewport.getWidth() + "," + viewport.getHeight());
+            options.addArguments("--disable-gpu", "--mute-audio", "--disable-background-networking");
+        }
+        return options;
+    }
+
+    /** Sizes the window and installs URL blocking on the session's current tab. */
+    public void apply(WebDriver driver) {
+        if (headless) {
+            driver.manage().window().setSize(viewport());
+        } else {
+            driver.manage().window().maximize();
+        }
+        List<String> patterns = blockedUrls();
+        if (!patterns.isEmpty() && driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+        }
+    }
+
+    public List<String> blockedUrls() {
+        List<String> patterns = new ArrayList<>(blockedUrls);
+        Arrays.stream(TestConfig.get("browser.blockedUrls", "").split(","))
+            .map(String::trim)
+            .filter(p -> !p.isEmpty())
+            .forEach(patterns::add);
+        return patterns;
+    }
+
+    private static Dimension viewport() {
+        String[] size = TestConfig.get("browser.viewport", "1366x900").toLowerCase().split("x");
+        return new Dimension(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+    }
+}
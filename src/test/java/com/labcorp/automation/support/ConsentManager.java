@@ -0,0 +1,136 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the OneTrust cookie banner out of the way.
+ *
+ * {@link #preSeed} writes the OneTrust consent cookies through CDP before the first
+ * navigation, so the banner never renders on the seeded domains. {@link #dismiss} is the
+ * fallback for banners that still show up (unseeded domains, consent version changes): a
+ * single injected script finds the first visible accept button inside the OneTrust container,
+ * or inside any element whose id, class or label names cookies or consent (the Workday
+ * application tab's banner is not OneTrust), and clicks it. A page without a banner costs
+ * exactly one round trip, and accept buttons outside consent containers are never touched.
+ *
+ * Seeding is on by default; disable it with {@code -Dconsent.preseed=false}, override the
+ * seeded domains with {@code -Dconsent.domains=.labcorp.com,.example.com}, and match the site's
+ * OneTrust script version with {@code -Dconsent.version} when it moves past 202310.1.0.
+ */
+public final class ConsentManager {
+
+    // Containers other consent tools (the Workday application tab among them) render their
+    // banner in; accept buttons are only looked for inside these and the OneTrust container
+    private static final String CONSENT_CONTAINERS =
+        "[id*=cookie i], [class*=cookie i], [id*=consent i], [class*=consent i], "
+        + "[aria-label*=cookie i], [aria-label*=consent i], [data-automation-id*=cookie i]";
+
+    private static final String DISMISS_SCRIPT =
+        "function visible(e) {" +
+        "  var s = window.getComputedStyle(e), r = e.getBoundingClientRect();" +
+        "  return (r.width > 0 || r.height > 0) && s.visibility !== 'hidden' && s.display !== 'none';" +
+        "}" +
+        "var oneTrust = document.getElementById('onetrust-consent-sdk');" +
+        "var roots = oneTrust ? [oneTrust] : [];" +
+        "document.querySelectorAll(arguments[0]).forEach(function (c) {" +
+        "  if (!oneTrust || !oneTrust.contains(c)) { roots.push(c); }" +
+        "});" +
+        "if (roots.length === 0) {" +
+        "  return null;" +
+        "}" +
+        "var byId = oneTrust ? oneTrust.querySelector('#onetrust-accept-btn-handler') : null;" +
+        "var candidates = byId ? [byId] : [];" +
+        "var clickable = [];" +
+        "roots.forEach(function (root) {" +
+        "  if (root.matches('button, a')) { clickable.push(root); }" +
+        "  root.querySelectorAll('button, a').forEach(function (el) { clickable.push(el); });" +
+        "});" +
+        "var labels = ['Accept All Cookies', 'Accept Cookies', 'I Agree', 'Accept'];" +
+        "for (var l = 0; l < labels.length; l++) {" +
+        "  for (var i = 0; i < clickable.length; i++) {" +
+        "    var el = clickable[i];" +
+        "    if ((el.textContent || '').indexOf(labels[l]) >= 0 && (el.tagName === 'BUTTON' || labels[l] === 'Accept Cookies')) {" +
+        "      candidates.push(el);" +
+        "    }" +
+        "  }" +
+        "}" +
+        "for (var c = 0; c < candidates.length; c++) {" +
+        "  if (visible(candidates[c])) {" +
+        "    var label = (candidates[c].textContent || '').trim();" +
+        "    candidates[c].click();" +
+        "    if (oneTrust) {" +
+        "      oneTrust.querySelectorAll('.onetrust-pc-dark-filter')" +
+        "        .forEach(function (f) { f.style.display = 'none'; });" +
+        "    }" +
+        "    return label || 'accept';" +
+        "  }" +
+        "}" +
+        "return null;";
+
+    private ConsentManager() {
+    }
+
+    /**
+     * Seeds OneTrust consent cookies for the configured domains. Must be called before the
+     * first {@code driver.get} to keep the banner from rendering at all.
+     */
+    public static void preSeed(WebDriver driver) {
+        if (!TestConfig.getBoolean("consent.preseed", true) || !(driver instanceof HasCdp)) {
+            return;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        Instant now = Instant.now();
+        String consentId = UUID.randomUUID().toString();
+        String consent = "isGpcEnabled=0"
+            + "&datestamp=" + now.toString().replace(":", "%3A")
+            + "&version=" + TestConfig.get("consent.version", "202310.1.0")
+            + "&isIABGlobal=false&hosts=&consentId=" + consentId
+            + "&interactionCount=1&landingPath=NotLandingPage"
+            + "&groups=C0001%3A1%2CC0002%3A1%2CC0003%3A1%2CC0004%3A1";
+        long expires = now.plus(365, ChronoUnit.DAYS).getEpochSecond();
+
+        for (String domain : domains()) {
+            cdp.executeCdpCommand("Network.setCookie", cookie("OptanonAlertBoxClosed", now.toString(), domain, expires));
+            cdp.executeCdpCommand("Network.setCookie", cookie("OptanonConsent", consent, domain, expires));
+        }
+    }
+
+    /**
+     * Clicks the first visible accept button in a consent container, if any, in one round trip.
+     *
+     * @return the clicked button's label, or {@code null} when no banner was showing
+     */
+    public static String dismiss(WebDriver driver) {
+        Object clicked = ((JavascriptExecutor) driver).executeScript(DISMISS_SCRIPT, CONSENT_CONTAINERS);
+        return clicked == null ? null : clicked.toString();
+    }
+
+    private static List<String> domains() {
+        return Arrays.stream(TestConfig.get("consent.domains", ".labcorp.com").split(","))
+            .map(String::trim)
+            .filter(d -> !d.isEmpty())
+            .toList();
+    }
+
+    private static Map<String, Object> cookie(String name, String value, String domain, long expires) {
+        Map<String, Object> cookie = new HashMap<>();
+        cookie.put("name", name);
+        cookie.put("value", value);
+        cookie.put("domain", domain);
+        cookie.put("path", "/");
+        cookie.put("secure", true);
+        cookie.put("sameSite", "Lax");
+        cookie.put("expires", expires);
+        return cookie;
+    }
+}
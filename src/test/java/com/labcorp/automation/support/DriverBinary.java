@@ -0,0 +1,159 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * ChromeDriver binary resolution, done at most once per JVM.
+ *
+ * WebDriverManager resolves the browser version and checks its cache on every call, which
+ * used to happen at the start of every scenario. The resolved path is now kept for the life
+ * of the JVM and also written to {@code driver.binaryCache} (default
+ * {@code target/driver-binary.properties}), so later runs skip WebDriverManager entirely
+ * while the recorded binary still exists. Running {@link #main(String[])} during the build
+ * (the {@code resolve-driver} Maven profile) does the resolution ahead of time.
+ *
+ * An explicit {@code -Dwebdriver.chrome.driver} always wins and is never cleared. The resolved
+ * path is handed to each {@code ChromeDriverService} directly rather than through that system
+ * property, so retries on one thread cannot pull the binary out from under another. A cached
+ * binary that no longer matches the installed Chrome is replaced through {@link #replace}.
+ */
+public final class DriverBinary {
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final String PATH_KEY = "chromedriver.path";
+    private static final String VERSION_KEY = "chromedriver.version";
+
+    private static volatile Resolution resolved;
+
+    /** Where the binary came from and how long finding it took. */
+    public record Resolution(Path path, String source, long nanos) {
+
+        /** Only a binary read from the cache file can be stale; an explicit or fresh one is not retried. */
+        public boolean isFromCache() {
+            return source.equals("cache file");
+        }
+    }
+
+    private DriverBinary() {
+    }
+
+    public static Resolution resolve() {
+        Resolution result = resolved;
+        if (result != null) {
+            return result;
+        }
+        synchronized (DriverBinary.class) {
+            if (resolved == null) {
+                resolved = resolveUncached();
+                RunLog.record(RunEvent.DRIVER_RESOLVED, resolved.path(), resolved.source(), null, resolved.nanos() / 1_000_000);
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Replaces a binary read from the cache file that could not create a session, typically
+     * because Chrome was upgraded since it was cached. When several threads fail on the same
+     * binary only the first resolves again; the others get its result.
+     */
+    public static synchronized Resolution replace(Resolution stale) {
+        if (resolved != null && resolved != stale) {
+            return resolved;
+        }
+        forget();
+        return resolve();
+    }
+
+    private static synchronized void forget() {
+        resolved = null;
+        try {
+            Files.deleteIfExists(cacheFile());
+        } catch (IOException e) {
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, cacheFile(), e.getMessage());
+        }
+    }
+
+    private static Resolution resolveUncached() {
+        long start = System.nanoTime();
+        String explicit = System.getProperty(DRIVER_PROPERTY);
+        if (explicit != null && !explicit.isBlank()) {
+            return new Resolution(Paths.get(explicit), "system property", System.nanoTime() - start);
+        }
+
+        Path cached = readCache();
+        if (cached != null) {
+            return new Resolution(cached, "cache file", System.nanoTime() - start);
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        manager.setup();
+        Path path = Paths.get(manager.getDownloadedDriverPath());
+        writeCache(path, manager.getDownloadedDriverVersion());
+        return new Resolution(path, "webdrivermanager", System.nanoTime() - start);
+    }
+
+    private static Path readCache() {
+        Path file = cacheFile();
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            RunLog.record(RunEvent.DRIVER_CACHE_STALE, file, e.getMessage());
+            return null;
+        }
+        String value = properties.getProperty(PATH_KEY);
+        if (value == null) {
+            return null;
+        }
+        Path path = Paths.get(value);
+        return Files.isExecutable(path) ? path : null;
+    }
+
+    private static void writeCache(Path path, String version) {
+        Path file = cacheFile();
+        Properties properties = new Properties();
+        properties.setProperty(PATH_KEY, path.toAbsolutePath().toString());
+        if (version != null) {
+            properties.setProperty(VERSION_KEY, version);
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Resolved by DriverBinary; delete to force re-resolution");
+            }
+        } catch (IOException e) {
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, file, e.getMessage());
+        }
+    }
+
+    private static Path cacheFile() {
+        return Paths.get(TestConfig.get("driver.binaryCache", "target/driver-binary.properties"));
+    }
+
+    /** Build-phase entry point: resolves the driver and records it for the test JVM. */
+    public static void main(String[] args) {
+        forget();
+        Resolution result = resolve();
+        if (result.source().equals("system property")) {
+            System.out.println("Using -D" + DRIVER_PROPERTY + "=" + result.path() + "; nothing recorded");
+        } else {
+            System.out.println("Recorded " + result.path() + " in " + cacheFile());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.grid.GridDriverFactory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Where browser sessions come from.
+ *
+ * Selected once per JVM with {@code -Ddriver.backend}:
+ * <ul>
+ *   <li>{@code local} (default) - ChromeDriver on this machine</li>
+ *   <li>{@code grid} - {@code RemoteWebDriver} sessions on the Selenium Grid at {@code grid.url},
+ *       queued on the client while the Grid has no free Chrome slot</li>
+ * </ul>
+ * {@link DriverManager} and {@link DriverPool} create every session through this interface.
+ */
+public interface DriverFactory {
+
+    /**
+     * One-off work before the first session, such as resolving a driver binary.
+     * {@link DriverManager} runs it once per factory, not once per session.
+     */
+    default void prepare() {
+    }
+
+    /** Startup phase name under which {@link #prepare()} is timed. */
+    default String preparePhase() {
+        return "prepare";
+    }
+
+    WebDriver create(ChromeOptions options);
+
+    String name();
+
+    static DriverFactory current() {
+        return Holder.INSTANCE;
+    }
+
+    final class Holder {
+        private static final DriverFactory INSTANCE = select(TestConfig.get("driver.backend", "local"));
+
+        private Holder() {
+        }
+
+        private static DriverFactory select(String backend) {
+            switch (backend.toLowerCase()) {
+                case "local":
+                    return new LocalDriverFactory();
+                case "grid":
+                    return GridDriverFactory.fromConfig();
+                default:
+                    throw new IllegalArgumentException("Unknown driver.backend '" + backend + "', expected local or grid");
+            }
+        }
+    }
+}
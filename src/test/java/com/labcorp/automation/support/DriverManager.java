@@ -0,0 +1,133 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.CommandTimingListener;
+import com.labcorp.automation.support.metrics.Metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-confined WebDriver sessions.
+ *
+ * Cucumber creates a fresh step-definition instance per scenario and, when scenarios run in
+ * parallel (see the {@code parallel} Maven profile), each worker thread executes one scenario
+ * at a time from Given to @After. Keeping the driver in a {@link ThreadLocal} guarantees that
+ * no two scenarios ever share a browser window, and that {@link #quitDriver()} only ever
+ * closes the browser owned by the calling thread.
+ *
+ * When {@link DriverPool} is enabled, sessions are borrowed from the pool and handed back on
+ * {@link #quitDriver()} instead of being quit.
+ *
+ * With metrics enabled, callers receive a decorated driver that times every WebDriver
+ * command; the pool always deals in the undecorated instance.
+ *
+ * Sessions are created by the configured {@link DriverFactory} (local ChromeDriver or a
+ * Selenium Grid), and each session's startup phases are recorded by {@link StartupTimings}.
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriver> RAW_DRIVER = new ThreadLocal<>();
+    private static final CommandTimingListener COMMAND_TIMING = new CommandTimingListener();
+    private static final ThreadLocal<DriverPool> POOL = new ThreadLocal<>();
+    private static final Set<DriverFactory> PREPARED = ConcurrentHashMap.newKeySet();
+
+    private DriverManager() {
+    }
+
+    public static WebDriver startDriver(ChromeOptions options) {
+        if (DRIVER.get() != null) {
+            throw new IllegalStateException("A WebDriver session is already open on thread " + Thread.currentThread().getName());
+        }
+        DriverFactory factory = DriverFactory.current();
+        StartupTimings timings = StartupTimings.begin();
+        prepare(factory, timings);
+
+        long start = System.nanoTime();
+        WebDriver driver;
+        if (DriverPool.isEnabled()) {
+            DriverPool pool = DriverPool.get(options);
+            driver = pool.acquire();
+            POOL.set(pool);
+            timings.record("pool-acquire", System.nanoTime() - start);
+        } else {
+            driver = factory.create(options);
+            timings.record("spawn", System.nanoTime() - start);
+        }
+        openDevToolsSession(driver, timings);
+        RAW_DRIVER.set(driver);
+        WebDriver exposed = Metrics.isEnabled()
+            ? new EventFiringDecorator<>(COMMAND_TIMING).decorate(driver)
+            : driver;
+        DRIVER.set(exposed);
+        return exposed;
+    }
+
+    // Only the session that actually prepares the factory records the phase; a failed
+    // preparation is retried by the next session
+    private static void prepare(DriverFactory factory, StartupTimings timings) {
+        if (PREPARED.contains(factory)) {
+            return;
+        }
+        synchronized (PREPARED) {
+            if (PREPARED.contains(factory)) {
+                return;
+            }
+            long start = System.nanoTime();
+            factory.prepare();
+            timings.record(factory.preparePhase(), System.nanoTime() - start);
+            PREPARED.add(factory);
+        }
+    }
+
+    // Opened here so its cost shows up as its own phase rather than inside whichever
+    // DevTools feature happens to touch it first
+    private static void openDevToolsSession(WebDriver driver, StartupTimings timings) {
+        if (!(driver instanceof HasDevTools)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            ((HasDevTools) driver).getDevTools().createSessionIfThereIsNotOne();
+            timings.record("cdp-handshake", System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            RunLog.record(RunEvent.DEVTOOLS_UNAVAILABLE, "session", e.getMessage());
+        }
+    }
+
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver session on thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    public static void quitDriver() {
+        WebDriver driver = RAW_DRIVER.get();
+        DriverPool pool = POOL.get();
+        DRIVER.remove();
+        RAW_DRIVER.remove();
+        POOL.remove();
+        StartupTimings.discard();
+        if (driver == null) {
+            return;
+        }
+        if (pool != null) {
+            pool.release(driver);
+        } else {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pools of warm Chrome sessions shared by all scenarios in the JVM, one per set of options.
+ *
+ * Enabled with {@code -Ddriver.pool.size=N}. The first acquisition with a given set of
+ * {@link ChromeOptions} pre-launches N browsers in parallel; afterwards scenarios asking for
+ * the same options borrow a session and hand it back on teardown, while different options get
+ * a pool of their own. Released sessions are reset (extra tabs closed, cookies and storage
+ * cleared, consent cookies seeded again, navigated to about:blank) instead of quit, and are
+ * evicted once they fail a health check or reach {@code driver.pool.maxReuse} uses. Wait-time
+ * metrics are printed and every browser the pool launched is quit when the JVM exits.
+ */
+public final class DriverPool {
+
+    private static final Map<Map<String, Object>, DriverPool> POOLS = new ConcurrentHashMap<>();
+
+    private final Supplier<WebDriver> factory;
+    private final int size;
+    private final int maxReuse;
+    private final Duration acquireTimeout;
+
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, Integer> useCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger live = new AtomicInteger();
+
+    // Metrics
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evictedMaxReuse = new AtomicLong();
+    private final AtomicLong evictedUnhealthy = new AtomicLong();
+
+    private DriverPool(Supplier<WebDriver> factory, int size, int maxReuse, Duration acquireTimeout) {
+        this.factory = factory;
+        this.size = size;
+        this.maxReuse = maxReuse;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public static boolean isEnabled() {
+        return TestConfig.getInt("driver.pool.size", 0) > 0;
+    }
+
+    /**
+     * Returns the pool for the given options, creating and warming it on first use. Options
+     * are compared by their capabilities, so callers that build equal options share a pool.
+     */
+    public static DriverPool get(ChromeOptions options) {
+        // Warming happens inside computeIfAbsent so concurrent first callers wait for one pool
+        return POOLS.computeIfAbsent(options.asMap(), key -> {
+            DriverPool pool = new DriverPool(
+                () -> DriverFactory.current().create(options),
+                TestConfig.getInt("driver.pool.size", 0),
+                TestConfig.getInt("driver.pool.maxReuse", 20),
+                Duration.ofSeconds(TestConfig.getLong("driver.pool.acquireTimeoutSeconds", 300)));
+            pool.warmUp();
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+            return pool;
+        });
+    }
+
+    // ============================================================================
+    // LIFECYCLE
+    // ============================================================================
+
+    private void warmUp() {
+        List<CompletableFuture<Void>> launches = new ArrayList<>();
+        while (reserveSlot()) {
+            launches.add(CompletableFuture.runAsync(() -> idle.add(launch())));
+        }
+        try {
+            CompletableFuture.allOf(launches.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            // The pool is never registered, so no shutdown hook would quit the ones that started
+            WebDriver driver;
+            while ((driver = idle.poll()) != null) {
+                discard(driver);
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        RunLog.record(RunEvent.POOL_WARMED, null, null, null, idle.size());
+    }
+
+    /** Claims a browser slot if the pool is below its size; the check and claim are one step. */
+    private boolean reserveSlot() {
+        return live.getAndUpdate(n -> n < size ? n + 1 : n) < size;
+    }
+
+    /** Launches a browser into a slot already claimed with {@link #reserveSlot()}. */
+    private WebDriver launch() {
+        try {
+            WebDriver driver = factory.get();
+            useCounts.put(driver, 0);
+            created.incrementAndGet();
+            return driver;
+        } catch (RuntimeException e) {
+            live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public WebDriver acquire() {
+        long start = System.nanoTime();
+        try {
+            while (true) {
+                WebDriver driver = idle.poll();
+                if (driver == null && reserveSlot()) {
+                    // A slot was freed by an eviction; refill it on the caller's thread
+                    driver = launch();
+                }
+                if (driver == null) {
+                    long remaining = acquireTimeout.toNanos() - (System.nanoTime() - start);
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("Timed out after " + acquireTimeout.toSeconds()
+                            + "s waiting for a pooled browser (pool size " + size + ")");
+                    }
+                    driver = idle.poll(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+                    if (driver == null) {
+                        continue;
+                    }
+                }
+                if (isHealthy(driver)) {
+                    useCounts.merge(driver, 1, Integer::sum);
+                    return driver;
+                }
+                evictedUnhealthy.incrementAndGet();
+                discard(driver);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+        } finally {
+            long waited = System.nanoTime() - start;
+            acquisitions.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    public void release(WebDriver driver) {
+        if (useCounts.getOrDefault(driver, 0) >= maxReuse) {
+            evictedMaxReuse.incrementAndGet();
+            discard(driver);
+            return;
+        }
+        try {
+            reset(driver);
+            idle.add(driver);
+        } catch (RuntimeException e) {
+            RunLog.record(RunEvent.POOL_EVICTED, "reset failed: " + e.getMessage());
+            evictedUnhealthy.incrementAndGet();
+            discard(driver);
+        }
+    }
+
+    private void shutdown() {
+        printMetrics();
+        // Every live browser, including ones a scenario still had checked out at exit
+        for (WebDriver driver : useCounts.keySet()) {
+            quitQuietly(driver);
+        }
+    }
+
+    // ============================================================================
+    // HEALTH AND RESET
+    // ============================================================================
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void reset(WebDriver driver) {
+        // Drop DevTools listeners registered by the previous scenario
+        if (driver instanceof HasDevTools) {
+            ((HasDevTools) driver).maybeGetDevTools().ifPresent(DevTools::clearListeners);
+        }
+
+        // Clear storage for each open tab's origin and close every tab except the first
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = handles.size() - 1; i >= 0; i--) {
+            driver.switchTo().window(handles.get(i));
+            clearOriginStorage(driver);
+            if (i > 0) {
+                driver.close();
+            }
+        }
+
+        if (driver instanceof HasCdp) {
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        driver.get("about:blank");
+        // Clearing cookies took the consent cookies with them
+        ConsentManager.preSeed(driver);
+    }
+
+    private void clearOriginStorage(WebDriver driver) {
+        try {
+            Object origin = ((JavascriptExecutor) driver).executeScript(
+                "try { localStorage.clear(); sessionStorage.clear(); } catch (e) {} return location.origin;");
+            if (driver instanceof HasCdp && origin instanceof String && ((String) origin).startsWith("http")) {
+                ((HasCdp) driver).executeCdpCommand("Storage.clearDataForOrigin",
+                    Map.of("origin", origin, "storageTypes", "indexeddb,cache_storage,service_workers"));
+            }
+        } catch (RuntimeException e) {
+            // about:blank and error pages have no storage
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        useCounts.remove(driver);
+        live.decrementAndGet();
+        quitQuietly(driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            // Browser already gone
+        }
+    }
+
+    // ============================================================================
+    // METRICS
+    // ============================================================================
+
+    private void printMetrics() {
+        long count = acquisitions.get();
+        double avgMs = count == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / count;
+        System.out.printf("Driver pool: size=%d, acquisitions=%d, avgWait=%.1fms, maxWait=%.1fms, "
+                + "created=%d, evictedMaxReuse=%d, evictedUnhealthy=%d%n",
+            size, count, avgMs, maxWaitNanos.get() / 1_000_000.0,
+            created.get(), evictedMaxReuse.get(), evictedUnhealthy.get());
+    }
+}
@@ -0,0 +1,139 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Everything the job-detail assertions read, extracted from the page in one
+ * {@code executeScript} round trip.
+ *
+ * {@code documentId} is a random token stamped on the window the first time a snapshot is
+ * taken; a navigation produces a new document and therefore a new id, which lets callers tell
+ * two snapshots of the same URL apart.
+ *
+ * The visible body text is kept as a {@link PageTextIndex}; the introduction and requirements
+ * fall back to index lookups when none of their locators match.
+ */
+public record JobDetailSnapshot(
+        String url,
+        String documentId,
+        String title,
+        String location,
+        String jobId,
+        String introduction,
+        String requirements,
+        PageTextIndex text) {
+
+    // Mirrors the fallback locators the step definitions used to query one by one
+    private static final String EXTRACT_SCRIPT =
+        "function xpathAll(expr) {" +
+        "  var snap = document.evaluate(expr, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+        "  for (var i = 0; i < snap.snapshotLength; i++) { var n = snap.snapshotItem(i); if (n.nodeType === 1) out.push(n); }" +
+        "  return out;" +
+        "}" +
+        "function text(e) { return (e.innerText || '').trim(); }" +
+        "function visible(e) { var r = e.getBoundingClientRect(); return r.width > 0 || r.height > 0; }" +
+        "function firstText(exprs, minLength, visibleOnly) {" +
+        "  for (var i = 0; i < exprs.length; i++) {" +
+        "    var found = xpathAll(exprs[i]);" +
+        "    for (var j = 0; j < found.length; j++) {" +
+        "      if (visibleOnly && !visible(found[j])) continue;" +
+        "      var t = text(found[j]);" +
+        "      if (t.length > minLength) return t;" +
+        "    }" +
+        "  }" +
+        "  return '';" +
+        "}" +
+        "if (!window.__labcorpDocumentId) { window.__labcorpDocumentId = Math.random().toString(36).slice(2); }" +
+        "var body = document.body ? document.body.innerText.trim() : '';" +
+        "var intro = firstText([\"//div[string-length(text()) > 50]\", \"//p[string-length(text()) > 50]\"], 0, false);" +
+        "var req = firstText([\"//*[contains(@class, 'requirements')]\", \"//*[contains(@class, 'qualifications')]\"], 0, false)" +
+        "  || firstText([\"//*[contains(text(), 'experience')]\", \"//*[contains(text(), 'years')]\"," +
+        "                \"//*[contains(text(), 'required')]\", \"//*[contains(text(), 'qualification')]\"," +
+        "                \"//*[contains(text(), 'skill')]\"], 10, false);" +
+        "return {" +
+        "  url: location.href," +
+        "  documentId: window.__labcorpDocumentId," +
+        "  title: firstText(['//h1', '//h2', \"//*[contains(@class, 'job-title')]\"], 0, true)," +
+        "  location: firstText([\"//*[contains(@class, 'location')]\", \"//*[contains(text(), 'Location')]\"," +
+        "                       \"//*[contains(@class, 'office') or contains(@class, 'city')]\"], 0, true)," +
+        "  jobId: firstText([\"//*[contains(@class, 'jobId')]\", \"//span[contains(text(), 'Job ID :')]\"," +
+        "                    \"//*[contains(text(), 'Job ID')]\"], 0, true)," +
+        "  introduction: intro," +
+        "  requirements: req," +
+        "  bodyText: body" +
+        "};";
+
+    // Only documents that have finished loading, rendered a heading and not been captured yet
+    private static final String READY_CHECK_SCRIPT =
+        "if (document.readyState !== 'complete' || window.__labcorpCaptured || !document.querySelector('h1, h2')) return null;" +
+        "if (!window.__labcorpLastMutation) {" +
+        "  window.__labcorpLastMutation = performance.now();" +
+        "  new MutationObserver(function () { window.__labcorpLastMutation = performance.now(); })" +
+        "    .observe(document.documentElement, { childList: true, subtree: true, characterData: true });" +
+        "}";
+
+    // Hydrated pages fill the detail fields in after load: accept a partial capture only once the DOM has gone quiet
+    private static final String COMPLETE_CHECK_SCRIPT =
+        "if (!(snapshot.title && snapshot.location && snapshot.jobId)" +
+        "    && performance.now() - window.__labcorpLastMutation < arguments[0]) return null;" +
+        "window.__labcorpCaptured = true;" +
+        "return snapshot;";
+
+    public static JobDetailSnapshot capture(WebDriver driver) {
+        return fromScriptResult((Map<?, ?>) ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT));
+    }
+
+    /**
+     * Captures the current tab in one round trip if its document has loaded, shows a title,
+     * location and job ID (or has stopped changing for {@code quiet}), and has not been
+     * captured by this method before; otherwise returns empty. Lets a caller poll several
+     * tabs that are navigating in the background without mistaking an old or half-rendered
+     * document for the new one.
+     */
+    public static Optional<JobDetailSnapshot> captureIfFreshlyLoaded(WebDriver driver, Duration quiet) {
+        Map<?, ?> raw = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(
+            READY_CHECK_SCRIPT + "var snapshot = (function () {" + EXTRACT_SCRIPT + "})();" + COMPLETE_CHECK_SCRIPT,
+            quiet.toMillis());
+        return Optional.ofNullable(raw).map(JobDetailSnapshot::fromScriptResult);
+    }
+
+    private static JobDetailSnapshot fromScriptResult(Map<?, ?> raw) {
+        PageTextIndex text = new PageTextIndex(field(raw, "bodyText"));
+        String introduction = field(raw, "introduction");
+        if (introduction.isEmpty()) {
+            introduction = text.firstSentenceLongerThan(20).orElse("Job page content confirmed");
+        }
+        String requirements = field(raw, "requirements");
+        if (requirements.isEmpty()) {
+            requirements = text.firstParagraphLongerThan(50).orElse("Requirements section found");
+        }
+        return new JobDetailSnapshot(
+            field(raw, "url"),
+            field(raw, "documentId"),
+            field(raw, "title"),
+            field(raw, "location"),
+            field(raw, "jobId"),
+            introduction,
+            requirements,
+            text);
+    }
+
+    /** Identity of the captured document: its URL and document id, as {@link PageSnapshotCache} compares them. */
+    public String documentKey() {
+        return url + " " + documentId;
+    }
+
+    public String bodyText() {
+        return text.text();
+    }
+
+    private static String field(Map<?, ?> raw, String name) {
+        Object value = raw.get(name);
+        return value == null ? "" : value.toString();
+    }
+}
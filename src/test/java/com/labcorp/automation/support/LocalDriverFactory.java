@@ -0,0 +1,59 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * ChromeDriver sessions on this machine, using the binary resolved by {@link DriverBinary}.
+ * Each session starts on a clone of the warmed {@link ProfileTemplate} unless that is disabled.
+ */
+final class LocalDriverFactory implements DriverFactory {
+
+    @Override
+    public void prepare() {
+        DriverBinary.resolve();
+    }
+
+    @Override
+    public String preparePhase() {
+        return "resolve";
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        return launch(ProfileTemplate.sessionOptions(options, this::launch));
+    }
+
+    private WebDriver launch(ChromeOptions options) {
+        DriverBinary.Resolution binary = DriverBinary.resolve();
+        try {
+            return start(binary, options);
+        } catch (SessionNotCreatedException e) {
+            if (!binary.isFromCache()) {
+                throw e;
+            }
+            // Most likely Chrome was upgraded since the binary was cached
+            RunLog.record(RunEvent.DRIVER_CACHE_STALE, binary.path(), e.getRawMessage());
+            return start(DriverBinary.replace(binary), options);
+        }
+    }
+
+    private static WebDriver start(DriverBinary.Resolution binary, ChromeOptions options) {
+        ChromeDriverService service = new ChromeDriverService.Builder()
+            .usingDriverExecutable(binary.path().toFile())
+            .usingAnyFreePort()
+            .build();
+        return new ChromeDriver(service, options);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+}
@@ -0,0 +1,132 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.metrics.InstrumentedWait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves an ordered fallback chain of locators in a single polling loop.
+ *
+ * Instead of giving each candidate its own full wait, every poll evaluates all candidates in
+ * one {@code executeScript} round trip and returns the highest-priority candidate that
+ * currently matches. A missing primary locator therefore costs nothing once a fallback is on
+ * the page; the primary still wins whenever both are present in the same poll.
+ */
+public final class LocatorRace {
+
+    public enum Mode { PRESENT, VISIBLE, CLICKABLE }
+
+    private static final Duration POLLING = Duration.ofMillis(100);
+
+    private static final String RACE_SCRIPT =
+        "var candidates = arguments[0], mode = arguments[1];" +
+        "function visible(e) {" +
+        "  var s = window.getComputedStyle(e), r = e.getBoundingClientRect();" +
+        "  return (r.width > 0 || r.height > 0) && s.visibility !== 'hidden' && s.display !== 'none' && s.opacity !== '0';" +
+        "}" +
+        "function matches(e) {" +
+        "  if (mode === 'PRESENT') return true;" +
+        "  if (!visible(e)) return false;" +
+        "  return mode !== 'CLICKABLE' || !e.disabled;" +
+        "}" +
+        "function linkText(a) { return (a.innerText || a.textContent || '').trim(); }" +
+        "function find(using, value) {" +
+        "  switch (using) {" +
+        "    case 'css selector': return document.querySelectorAll(value);" +
+        "    case 'tag name': return document.getElementsByTagName(value);" +
+        "    case 'link text': return Array.prototype.filter.call(document.links, function (a) { return linkText(a) === value; });" +
+        "    case 'partial link text': return Array.prototype.filter.call(document.links, function (a) { return linkText(a).indexOf(value) >= 0; });" +
+        "    case 'xpath':" +
+        "      var snap = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+        "      for (var k = 0; k < snap.snapshotLength; k++) { var n = snap.snapshotItem(k); if (n.nodeType === 1) out.push(n); }" +
+        "      return out;" +
+        "  }" +
+        "  return [];" +
+        "}" +
+        "for (var i = 0; i < candidates.length; i++) {" +
+        "  try {" +
+        "    var found = find(candidates[i][0], candidates[i][1]);" +
+        "    for (var j = 0; j < found.length; j++) { if (matches(found[j])) return [i, found[j]]; }" +
+        "  } catch (err) { /* invalid selector for this document; treat as no match */ }" +
+        "}" +
+        "return null;";
+
+    private LocatorRace() {
+    }
+
+    /** Outcome of a race: the winning element, which candidate produced it, and how long it took. */
+    public static final class Result {
+        private final WebElement element;
+        private final By locator;
+        private final int index;
+        private final Duration elapsed;
+
+        private Result(WebElement element, By locator, int index, Duration elapsed) {
+            this.element = element;
+            this.locator = locator;
+            this.index = index;
+            this.elapsed = elapsed;
+        }
+
+        public WebElement element() {
+            return element;
+        }
+
+        public By locator() {
+            return locator;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "candidate #" + index + " (" + locator + ") in " + elapsed.toMillis() + "ms";
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for any candidate to satisfy {@code mode}.
+     *
+     * @throws org.openqa.selenium.TimeoutException if no candidate matched in time
+     */
+    public static Result resolve(WebDriver driver, Duration timeout, Mode mode, List<By> candidates) {
+        List<List<Object>> encoded = new ArrayList<>();
+        for (By candidate : candidates) {
+            encoded.add(encode(candidate));
+        }
+
+        long start = System.nanoTime();
+        List<?> winner = new InstrumentedWait(driver, timeout, "locator-race:" + candidates.get(0))
+            .pollingEvery(POLLING)
+            .withMessage("none of " + candidates + " became " + mode.name().toLowerCase())
+            .until(d -> (List<?>) ((JavascriptExecutor) d).executeScript(RACE_SCRIPT, encoded, mode.name()));
+        int index = ((Number) winner.get(0)).intValue();
+        return new Result((WebElement) winner.get(1), candidates.get(index), index,
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public static Result resolve(WebDriver driver, Duration timeout, Mode mode, By... candidates) {
+        return resolve(driver, timeout, mode, List.of(candidates));
+    }
+
+    private static List<Object> encode(By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + by);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        return List.of(parameters.using(), String.valueOf(parameters.value()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v117.network.Network;
+import org.openqa.selenium.devtools.v117.network.model.ResourceType;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the requests and bytes a session moves over the network, per resource type, from
+ * DevTools {@code Network} events.
+ *
+ * Blocked requests never transfer anything, so bytes saved are estimated from a baseline:
+ * every {@code standard}-profile run writes the average size per resource type to
+ * {@code network.baseline} (default {@code history/network-baseline.json}, kept out of
+ * {@code target/} so {@code mvn clean} does not discard it), and other profiles multiply their
+ * blocked-request counts by those averages.
+ */
+public final class NetworkUsage {
+
+    private static final Path BASELINE = Path.of(TestConfig.get("network.baseline", "history/network-baseline.json"));
+    // Scenarios on parallel threads read and rewrite the same baseline file
+    private static final Object BASELINE_LOCK = new Object();
+    private static final Json JSON = new Json();
+
+    private final BrowserProfile profile;
+    private final Map<String, String> typeByRequest = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestsByType = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> bytesByType = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+
+    private NetworkUsage(BrowserProfile profile) {
+        this.profile = profile;
+    }
+
+    /** Starts counting on the session's current tab; empty if the driver has no DevTools. */
+    public static Optional<NetworkUsage> start(WebDriver driver, BrowserProfile profile) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        NetworkUsage usage = new NetworkUsage(profile);
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.addListener(Network.requestWillBeSent(), e -> {
+            String type = e.getType().map(ResourceType::toString).orElse("Other");
+            usage.typeByRequest.put(e.getRequestId().toString(), type);
+            counter(usage.requestsByType, type).incrementAndGet();
+        });
+        devTools.addListener(Network.loadingFinished(), e -> {
+            String type = usage.typeByRequest.getOrDefault(e.getRequestId().toString(), "Other");
+            counter(usage.bytesByType, type).addAndGet(e.getEncodedDataLength().longValue());
+        });
+        devTools.addListener(Network.loadingFailed(), e -> {
+            if (e.getBlockedReason().isPresent()) {
+                counter(usage.blockedByType, e.getType().toString()).incrementAndGet();
+            }
+        });
+        return Optional.of(usage);
+    }
+
+    private static AtomicLong counter(Map<String, AtomicLong> map, String key) {
+        return map.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    public long requests() {
+        return sum(requestsByType);
+    }
+
+    public long bytes() {
+        return sum(bytesByType);
+    }
+
+    public long blockedRequests() {
+        return sum(blockedByType);
+    }
+
+    /** Estimated bytes saved by blocking, or -1 when no standard-profile baseline exists yet. */
+    public long estimatedBytesSaved() {
+        Map<String, Object> baseline = readBaseline();
+        if (baseline.isEmpty()) {
+            return -1;
+        }
+        long saved = 0;
+        for (Map.Entry<String, AtomicLong> blocked : blockedByType.entrySet()) {
+            Object average = baseline.get(blocked.getKey());
+            if (average instanceof Number) {
+                saved += blocked.getValue().get() * ((Number) average).longValue();
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Logs the summary and, for the standard profile, refreshes the baseline. A baseline
+     * that cannot be written is logged, not thrown, so teardown carries on.
+     */
+    public void report() {
+        long saved = estimatedBytesSaved();
+        RunLog.record(RunEvent.NETWORK_USAGE, requests(), blockedRequests(), saved < 0 ? null : saved, bytes());
+        if (profile == BrowserProfile.STANDARD && requests() > 0) {
+            writeBaseline();
+        }
+    }
+
+    private static long sum(Map<String, AtomicLong> map) {
+        return map.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private static Map<String, Object> readBaseline() {
+        synchronized (BASELINE_LOCK) {
+            if (!Files.exists(BASELINE)) {
+                return Map.of();
+            }
+            try {
+                return JSON.toType(Files.readString(BASELINE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            } catch (IOException | RuntimeException e) {
+                RunLog.record(RunEvent.HISTORY_UNREADABLE, BASELINE, e.getMessage());
+                return Map.of();
+            }
+        }
+    }
+
+    private void writeBaseline() {
+        Map<String, Long> averages = new TreeMap<>();
+        bytesByType.forEach((type, bytes) -> {
+            long count = requestsByType.getOrDefault(type, new AtomicLong()).get();
+            if (count > 0) {
+                averages.put(type, bytes.get() / count);
+            }
+        });
+        synchronized (BASELINE_LOCK) {
+            try {
+                if (BASELINE.getParent() != null) {
+                    Files.createDirectories(BASELINE.getParent());
+                }
+                Files.writeString(BASELINE, JSON.toJson(averages), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                RunLog.record(RunEvent.REPORT_WRITE_FAILED, BASELINE, e.getMessage());
+            }
+        }
+    }
+}
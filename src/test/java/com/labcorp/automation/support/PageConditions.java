@@ -0,0 +1,108 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+
+/**
+ * Event-driven {@link ExpectedCondition}s that replace fixed {@code Thread.sleep} calls.
+ *
+ * Each condition relies on a small in-page probe: a MutationObserver recording the time of
+ * the last DOM change, wrappers around {@code fetch} and {@code XMLHttpRequest} tracking
+ * in-flight requests, and a buffered {@code PerformanceObserver} that moves the last network
+ * activity forward for every resource that finishes, including requests the page started
+ * before the probe existed. Every poll is a single {@code executeScript} round trip that
+ * compares those timestamps with the quiet period, so a wait settles as soon as the page goes
+ * quiet instead of after a worst-case delay.
+ *
+ * Call {@link #arm} before an action whose aftermath will be waited on, so that requests the
+ * action triggers are counted from the start; otherwise the probe is installed on the first
+ * poll, and again after every navigation.
+ */
+public final class PageConditions {
+
+    private static final String INSTALL_PROBE =
+        "var w = window;" +
+        "if (!w.__labcorpProbe) {" +
+        "  var p = w.__labcorpProbe = { lastMutation: performance.now(), lastNetwork: performance.now(), inflight: 0 };" +
+        "  var root = document.documentElement || document;" +
+        "  new MutationObserver(function () { p.lastMutation = performance.now(); })" +
+        "    .observe(root, { childList: true, subtree: true, attributes: true, characterData: true });" +
+        "  var begin = function () { p.inflight++; p.lastNetwork = performance.now(); };" +
+        "  var end = function () { p.inflight = Math.max(0, p.inflight - 1); p.lastNetwork = performance.now(); };" +
+        "  if (w.fetch) {" +
+        "    var origFetch = w.fetch;" +
+        "    w.fetch = function () { begin(); return origFetch.apply(this, arguments).finally(end); };" +
+        "  }" +
+        "  var finished = function (list) {" +
+        "    list.getEntries().forEach(function (e) { p.lastNetwork = Math.max(p.lastNetwork, e.responseEnd); });" +
+        "  };" +
+        "  try { new PerformanceObserver(finished).observe({ type: 'resource', buffered: true }); } catch (e) {}" +
+        "  var origSend = XMLHttpRequest.prototype.send;" +
+        "  XMLHttpRequest.prototype.send = function () {" +
+        "    begin(); this.addEventListener('loadend', end, { once: true });" +
+        "    return origSend.apply(this, arguments);" +
+        "  };" +
+        "}" +
+        "var probe = w.__labcorpProbe, now = performance.now();";
+
+    private PageConditions() {
+    }
+
+    /** Installs the probe on the current document ahead of an action that is about to change it. */
+    public static void arm(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript(INSTALL_PROBE);
+    }
+
+    /** No DOM mutations for at least {@code quiet}. */
+    public static ExpectedCondition<Boolean> domStable(Duration quiet) {
+        return condition("DOM stable for " + quiet.toMillis() + "ms",
+            "return document.readyState !== 'loading' && now - probe.lastMutation >= arguments[0];", quiet);
+    }
+
+    /** No fetch/XHR in flight and none started or finished for at least {@code quiet}. */
+    public static ExpectedCondition<Boolean> networkIdle(Duration quiet) {
+        return condition("network idle for " + quiet.toMillis() + "ms",
+            "return probe.inflight === 0 && now - probe.lastNetwork >= arguments[0];", quiet);
+    }
+
+    /** Document loaded, DOM stable and network idle for at least {@code quiet}. */
+    public static ExpectedCondition<Boolean> pageSettled(Duration quiet) {
+        return condition("page settled for " + quiet.toMillis() + "ms",
+            "return document.readyState === 'complete' && probe.inflight === 0" +
+            " && now - probe.lastMutation >= arguments[0] && now - probe.lastNetwork >= arguments[0];", quiet);
+    }
+
+    /** A new window opened, or the current page's DOM went quiet for {@code quiet}. */
+    public static ExpectedCondition<Boolean> newWindowOrDomStable(int currentWindowCount, Duration quiet) {
+        ExpectedCondition<Boolean> stable = domStable(quiet);
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return driver.getWindowHandles().size() > currentWindowCount || Boolean.TRUE.equals(stable.apply(driver));
+            }
+
+            @Override
+            public String toString() {
+                return "new window or " + stable;
+            }
+        };
+    }
+
+    private static ExpectedCondition<Boolean> condition(String description, String check, Duration quiet) {
+        return new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object result = ((JavascriptExecutor) driver).executeScript(INSTALL_PROBE + check, quiet.toMillis());
+                return Boolean.TRUE.equals(result);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
@@ -0,0 +1,300 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.Metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v117.network.Network;
+import org.openqa.selenium.devtools.v117.page.Page;
+import org.openqa.selenium.devtools.v117.target.Target;
+import org.openqa.selenium.devtools.v117.target.model.TargetID;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tells when a tab is ready from browser events instead of polling {@code document.readyState}.
+ *
+ * A tab is ready once Chrome reports {@code networkIdle} (no requests in flight for 500 ms)
+ * and {@code firstContentfulPaint} for its current document. Both arrive as DevTools
+ * {@code Page.lifecycleEvent}s, so waiting costs no WebDriver round trips. In-flight requests
+ * are counted per tab from {@code Network} events.
+ *
+ * A same-document navigation ({@code Page.navigatedWithinDocument}, i.e. an SPA route change)
+ * produces no lifecycle events, so it resets the tab's network idle signal and the tab is idle
+ * again once it has had no requests in flight for the same 500 ms. The first paint carries
+ * over, since the document keeps its content on screen.
+ *
+ * The events come over a DevTools connection of our own rather than the session's shared
+ * one, so tabs can be attached as they are awaited without moving the session other
+ * features (replay interception, network usage) are bound to. Chrome uses the target id as
+ * both the window handle and the main frame id, which is how events are matched to tabs.
+ * Without DevTools, {@link #isAvailable()} is false and callers keep their own wait.
+ */
+public final class PageReadiness implements AutoCloseable {
+
+    public record Signal(String tab, boolean networkIdle, boolean firstContentfulPaint, int inFlight, long elapsedNanos) {
+
+        public boolean isReady() {
+            return networkIdle && firstContentfulPaint;
+        }
+
+        /** The signals still outstanding, e.g. {@code "networkIdle"}; empty when ready. */
+        public String missing() {
+            if (isReady()) {
+                return "";
+            }
+            if (!networkIdle && !firstContentfulPaint) {
+                return "networkIdle,firstContentfulPaint";
+            }
+            return networkIdle ? "firstContentfulPaint" : "networkIdle";
+        }
+    }
+
+    private static final Duration ATTACH_TIMEOUT = Duration.ofSeconds(10);
+    // Chrome's own networkIdle threshold
+    private static final long QUIET_MILLIS = 500;
+
+    private static final ScheduledExecutorService IDLE_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "page-readiness-idle");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Paint entries survive in the page, so a paint that happened before we attached is still visible
+    private static final String PAINTED_SCRIPT =
+        "return performance.getEntriesByName('first-contentful-paint').length > 0;";
+
+    private final Connection connection;
+    private final Map<String, TabState> tabs = new ConcurrentHashMap<>();
+    private final Map<String, TabState> requests = new ConcurrentHashMap<>();
+
+    private PageReadiness(Connection connection) {
+        this.connection = connection;
+    }
+
+    /** Opens the event connection and attaches to the current tab so its first navigation is seen. */
+    public static PageReadiness start(WebDriver driver) {
+        Connection connection = null;
+        try {
+            connection = SeleniumCdpConnection.create(driver).orElse(null);
+            if (connection != null) {
+                PageReadiness readiness = new PageReadiness(connection);
+                readiness.listen();
+                readiness.tab(driver.getWindowHandle());
+                return readiness;
+            }
+        } catch (RuntimeException e) {
+            RunLog.record(RunEvent.DEVTOOLS_UNAVAILABLE, "page-readiness", e.getMessage());
+            if (connection != null) {
+                connection.close();
+            }
+        }
+        return new PageReadiness(null);
+    }
+
+    public boolean isAvailable() {
+        return connection != null;
+    }
+
+    /** Blocks until the tab in focus is ready or the timeout runs out; returns the signals seen so far. */
+    public Signal await(WebDriver driver, Duration timeout) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("No DevTools connection; check isAvailable() first");
+        }
+        String handle = driver.getWindowHandle();
+        boolean attachedNow = !tabs.containsKey(handle);
+        TabState tab = tab(handle);
+        if (attachedNow && !tab.isPainted()
+                && Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(PAINTED_SCRIPT))) {
+            tab.onLifecycle(tab.loaderId, "firstContentfulPaint");
+        }
+
+        long start = System.nanoTime();
+        try {
+            tab.ready().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Reported through the returned signal
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        long elapsed = System.nanoTime() - start;
+        Metrics.record(Metrics.Kind.WAIT, "page-ready", elapsed);
+        return tab.signal(elapsed);
+    }
+
+    /** Requests the tab's main frame has in flight; 0 for tabs never attached. */
+    public int inFlight(String handle) {
+        TabState tab = tabs.get(handle);
+        return tab == null ? 0 : tab.inFlight();
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    // ============================================================================
+    // EVENTS
+    // ============================================================================
+
+    private void listen() {
+        connection.addListener(Page.lifecycleEvent(), e -> {
+            TabState tab = tabs.get(e.getFrameId().toString());
+            if (tab != null) {
+                tab.onLifecycle(e.getLoaderId().toString(), e.getName());
+            }
+        });
+        connection.addListener(Page.navigatedWithinDocument(), e -> {
+            TabState tab = tabs.get(e.getFrameId().toString());
+            if (tab != null) {
+                tab.onSameDocumentNavigation();
+            }
+        });
+        connection.addListener(Network.requestWillBeSent(), e -> {
+            TabState tab = e.getFrameId().map(id -> tabs.get(id.toString())).orElse(null);
+            // Redirects reuse the request id and must not count twice
+            if (tab != null && requests.putIfAbsent(e.getRequestId().toString(), tab) == null) {
+                tab.requestStarted();
+            }
+        });
+        connection.addListener(Network.loadingFinished(), e -> requestEnded(e.getRequestId().toString()));
+        connection.addListener(Network.loadingFailed(), e -> requestEnded(e.getRequestId().toString()));
+    }
+
+    private void requestEnded(String requestId) {
+        TabState tab = requests.remove(requestId);
+        if (tab != null) {
+            tab.requestEnded();
+        }
+    }
+
+    private TabState tab(String handle) {
+        return tabs.computeIfAbsent(handle, this::attach);
+    }
+
+    // Runs inside computeIfAbsent, before any event for this tab can be matched
+    private TabState attach(String handle) {
+        SessionID session = new SessionID(connection.sendAndWait(null,
+            Target.attachToTarget(new TargetID(handle), Optional.of(true)), ATTACH_TIMEOUT).toString());
+        connection.sendAndWait(session, Page.enable(), ATTACH_TIMEOUT);
+        connection.sendAndWait(session, Network.enable(Optional.empty(), Optional.empty(), Optional.empty()), ATTACH_TIMEOUT);
+        // Enabling replays the lifecycle events the current document has already reached
+        connection.send(session, Page.setLifecycleEventsEnabled(true));
+        return new TabState(handle);
+    }
+
+    private static final class TabState {
+
+        private final String handle;
+        private String loaderId;
+        private boolean networkIdle;
+        private boolean painted;
+        private int inFlight;
+        // Set between an SPA route change and the quiet period that ends it
+        private boolean routeChanging;
+        private long idleCheck;
+        private CompletableFuture<Void> ready = new CompletableFuture<>();
+
+        TabState(String handle) {
+            this.handle = handle;
+        }
+
+        synchronized void onLifecycle(String loader, String name) {
+            if ("init".equals(name)) {
+                // New document: start over, keeping a pending future so current waiters see the new page
+                loaderId = loader;
+                networkIdle = false;
+                painted = false;
+                inFlight = 0;
+                routeChanging = false;
+                if (ready.isDone()) {
+                    ready = new CompletableFuture<>();
+                }
+                return;
+            }
+            if (loaderId != null && loader != null && !loaderId.equals(loader)) {
+                return;
+            }
+            if ("networkIdle".equals(name)) {
+                networkIdle = true;
+            } else if ("firstContentfulPaint".equals(name)) {
+                painted = true;
+            }
+            if (networkIdle && painted) {
+                ready.complete(null);
+            }
+        }
+
+        synchronized void onSameDocumentNavigation() {
+            networkIdle = false;
+            routeChanging = true;
+            if (ready.isDone()) {
+                ready = new CompletableFuture<>();
+            }
+            scheduleIdleCheck();
+        }
+
+        synchronized void requestStarted() {
+            inFlight++;
+            // Any pending idle check is stale now
+            idleCheck++;
+        }
+
+        synchronized void requestEnded() {
+            inFlight = Math.max(0, inFlight - 1);
+            if (routeChanging && inFlight == 0) {
+                scheduleIdleCheck();
+            }
+        }
+
+        private void scheduleIdleCheck() {
+            long check = ++idleCheck;
+            IDLE_TIMER.schedule(() -> onQuiet(check), QUIET_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void onQuiet(long check) {
+            if (check != idleCheck || !routeChanging || inFlight > 0) {
+                return;
+            }
+            routeChanging = false;
+            networkIdle = true;
+            if (painted) {
+                ready.complete(null);
+            }
+        }
+
+        synchronized int inFlight() {
+            return inFlight;
+        }
+
+        synchronized boolean isPainted() {
+            return painted;
+        }
+
+        synchronized CompletableFuture<Void> ready() {
+            return ready;
+        }
+
+        synchronized Signal signal(long elapsedNanos) {
+            return new Signal(handle, networkIdle, painted, inFlight, elapsedNanos);
+        }
+    }
+}
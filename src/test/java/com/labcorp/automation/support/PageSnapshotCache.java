@@ -0,0 +1,43 @@
+package com.labcorp.automation.support;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Optional;
+
+/**
+ * Holds the {@link JobDetailSnapshot} of the last document captured so that consecutive
+ * assertions read from memory instead of the browser.
+ *
+ * Every lookup first asks the browser for the identity of the document in focus,
+ * {@code location.href} plus the {@code __labcorpDocumentId} token stamped on the window, in
+ * one cheap script; the cached snapshot is only returned while that identity still matches.
+ * Navigations, SPA route changes and tab switches therefore recapture on their own. Callers
+ * only need to {@link #invalidate} after interactions that change the content of the same
+ * document, such as expanding a collapsed section.
+ */
+public final class PageSnapshotCache {
+
+    private static final String IDENTITY_SCRIPT =
+        "if (!window.__labcorpDocumentId) { window.__labcorpDocumentId = Math.random().toString(36).slice(2); }" +
+        "return location.href + ' ' + window.__labcorpDocumentId;";
+
+    private JobDetailSnapshot current;
+
+    public JobDetailSnapshot get(WebDriver driver) {
+        return peek(driver).orElseGet(() -> current = JobDetailSnapshot.capture(driver));
+    }
+
+    /** The cached snapshot if it still describes the document in focus, without capturing. */
+    public Optional<JobDetailSnapshot> peek(WebDriver driver) {
+        if (current == null) {
+            return Optional.empty();
+        }
+        Object identity = ((JavascriptExecutor) driver).executeScript(IDENTITY_SCRIPT);
+        return current.documentKey().equals(identity) ? Optional.of(current) : Optional.empty();
+    }
+
+    public void invalidate() {
+        current = null;
+    }
+}
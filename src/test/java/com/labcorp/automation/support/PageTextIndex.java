@@ -0,0 +1,139 @@
+package com.labcorp.automation.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Searchable view of a page's visible text, built once per {@link JobDetailSnapshot}.
+ *
+ * The text is segmented into paragraphs (non-blank lines) and sentences (split after
+ * {@code . ! ?}), and every lower-cased word is mapped to the sentences it occurs in. Phrase
+ * queries look up the rarest word of the phrase first and only compare the phrase against
+ * those sentences, instead of splitting and scanning the whole body on every assertion.
+ * Segmentation happens on the first query, so snapshots nobody searches cost nothing.
+ */
+public final class PageTextIndex {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}+#]+");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+
+    private final String text;
+    private List<String> paragraphs;
+    private List<String> sentences;
+    // Lower-cased word -> ascending indexes into sentences
+    private Map<String, int[]> postings;
+
+    public PageTextIndex(String text) {
+        this.text = text == null ? "" : text;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public List<String> paragraphs() {
+        build();
+        return paragraphs;
+    }
+
+    public List<String> sentences() {
+        build();
+        return sentences;
+    }
+
+    public Optional<String> firstParagraphLongerThan(int length) {
+        return paragraphs().stream().filter(p -> p.length() > length).findFirst();
+    }
+
+    public Optional<String> firstSentenceLongerThan(int length) {
+        return sentences().stream().filter(s -> s.length() > length).findFirst();
+    }
+
+    /** Sentences containing {@code phrase}, ignoring case, whitespace and trailing punctuation. */
+    public List<String> sentencesMentioning(String phrase) {
+        String needle = normalize(phrase);
+        List<String> tokens = tokens(needle);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        build();
+        int[] candidates = null;
+        for (String token : tokens) {
+            int[] posting = postings.get(token);
+            if (posting == null) {
+                return List.of();
+            }
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+        List<String> matches = new ArrayList<>();
+        for (int index : candidates) {
+            String sentence = sentences.get(index);
+            if (normalize(sentence).contains(needle)) {
+                matches.add(sentence);
+            }
+        }
+        return matches;
+    }
+
+    public boolean mentions(String phrase) {
+        return !sentencesMentioning(phrase).isEmpty();
+    }
+
+    public int distinctTokens() {
+        build();
+        return postings.size();
+    }
+
+    private void build() {
+        if (sentences != null) {
+            return;
+        }
+        List<String> paragraphList = new ArrayList<>();
+        List<String> sentenceList = new ArrayList<>();
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (String line : text.split("\\R")) {
+            String paragraph = line.trim();
+            if (paragraph.isEmpty()) {
+                continue;
+            }
+            paragraphList.add(paragraph);
+            for (String part : SENTENCE_END.split(paragraph)) {
+                int index = sentenceList.size();
+                sentenceList.add(part);
+                for (String token : tokens(part.toLowerCase(Locale.ROOT))) {
+                    List<Integer> list = positions.computeIfAbsent(token, t -> new ArrayList<>());
+                    if (list.isEmpty() || list.get(list.size() - 1) != index) {
+                        list.add(index);
+                    }
+                }
+            }
+        }
+        Map<String, int[]> index = new HashMap<>(positions.size() * 2);
+        positions.forEach((token, list) -> index.put(token, list.stream().mapToInt(Integer::intValue).toArray()));
+        paragraphs = Collections.unmodifiableList(paragraphList);
+        sentences = Collections.unmodifiableList(sentenceList);
+        postings = index;
+    }
+
+    private static List<String> tokens(String lowerCased) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(lowerCased);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT).replaceAll("[.!?;:,]+$", "");
+    }
+}
@@ -0,0 +1,54 @@
+package com.labcorp.automation.support;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PageTextIndexTest {
+
+    private static final String TEXT = "QA Test Automation Developer\n"
+        + "\n"
+        + "You will build the automation framework. Experience with Selenium WebDriver is required!\n"
+        + "Nice to have: C# and C++ experience.";
+
+    @Test
+    public void splitsParagraphsAndSentences() {
+        PageTextIndex index = new PageTextIndex(TEXT);
+
+        assertEquals(3, index.paragraphs().size());
+        assertEquals(List.of("QA Test Automation Developer", "You will build the automation framework.",
+            "Experience with Selenium WebDriver is required!", "Nice to have: C# and C++ experience."), index.sentences());
+        assertEquals(Optional.of("You will build the automation framework."), index.firstSentenceLongerThan(30));
+    }
+
+    @Test
+    public void findsPhrasesIgnoringCaseWhitespaceAndTrailingPunctuation() {
+        PageTextIndex index = new PageTextIndex(TEXT);
+
+        assertEquals(List.of("Experience with Selenium WebDriver is required!"), index.sentencesMentioning("selenium   webdriver."));
+        assertTrue(index.mentions("C#"));
+        assertTrue(index.mentions("c++ experience"));
+    }
+
+    @Test
+    public void requiresTheWholePhraseNotJustItsWords() {
+        PageTextIndex index = new PageTextIndex(TEXT);
+
+        assertFalse(index.mentions("webdriver selenium"));
+        assertFalse(index.mentions("cypress"));
+        assertFalse(index.mentions("   "));
+    }
+
+    @Test
+    public void treatsMissingTextAsEmpty() {
+        PageTextIndex index = new PageTextIndex(null);
+
+        assertTrue(index.sentences().isEmpty());
+        assertFalse(index.mentions("anything"));
+    }
+}
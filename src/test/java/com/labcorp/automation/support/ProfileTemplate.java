@@ -0,0 +1,213 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.Metrics;
+import com.labcorp.automation.support.replay.Replay;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Gives every local Chrome session a copy of a profile that has already visited the site.
+ *
+ * The first session of the run builds the template: Chrome is started on
+ * {@code template} under {@code profile.dir} (default {@code target/chrome-profile}), consent
+ * cookies are seeded and each of {@code profile.warmUrls} is loaded, then Chrome is quit so
+ * everything is flushed to disk. Each session afterwards starts on its own clone, with the
+ * HTTP cache, compiled-script cache and consent cookies already in place.
+ *
+ * Every file is copied, never linked: Chrome rewrites cache entries in place (e.g. headers
+ * after a 304), so shared inodes would let one session corrupt the template and its siblings.
+ * Clones go through {@code cp --reflink=auto}, which shares blocks copy-on-write on
+ * filesystems that support it (Btrfs, XFS) and copies normally elsewhere; where that command
+ * is not available the tree is copied file by file. Clones are deleted when the JVM exits.
+ *
+ * On by default for local sessions; {@code -Dprofile.template=false} starts every session
+ * cold, e.g. for startup measurements. Record and replay runs always start cold so that all
+ * traffic goes through the archive.
+ */
+final class ProfileTemplate {
+
+    // Chrome's single-instance markers; a clone carrying them refuses to start
+    private static final Set<String> SKIPPED_FILES = Set.of(
+        "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "DevToolsActivePort");
+
+    private static final Path ROOT = Path.of(TestConfig.get("profile.dir", "target/chrome-profile")).toAbsolutePath();
+    private static final AtomicInteger CLONES = new AtomicInteger();
+
+    private static volatile Path template;
+    private static volatile boolean failed;
+    // Cleared after the first failed attempt so later clones go straight to the Java copy
+    private static volatile boolean reflinkCopy = true;
+
+    private ProfileTemplate() {
+    }
+
+    static boolean isEnabled() {
+        return TestConfig.getBoolean("profile.template", true) && Replay.mode() == Replay.Mode.OFF && !failed;
+    }
+
+    /**
+     * Options for one new session: {@code options} plus a fresh clone of the template,
+     * building the template first if this is the run's first session. {@code options} itself
+     * is not modified, since the pool reuses it for every session it creates.
+     */
+    static ChromeOptions sessionOptions(ChromeOptions options, Function<ChromeOptions, WebDriver> launcher) {
+        if (!isEnabled()) {
+            return options;
+        }
+        try {
+            Path source = template(options, launcher);
+            long start = System.nanoTime();
+            Path clone = ROOT.resolve("session-" + CLONES.incrementAndGet());
+            copyTree(source, clone);
+            Metrics.record(Metrics.Kind.STARTUP, "profile-clone", System.nanoTime() - start);
+            return withUserDataDir(options, clone);
+        } catch (RuntimeException e) {
+            failed = true;
+            RunLog.record(RunEvent.PROFILE_TEMPLATE_UNAVAILABLE, e.getMessage());
+            return options;
+        }
+    }
+
+    private static Path template(ChromeOptions options, Function<ChromeOptions, WebDriver> launcher) {
+        Path built = template;
+        if (built == null) {
+            synchronized (ProfileTemplate.class) {
+                built = template;
+                if (built == null) {
+                    built = build(options, launcher);
+                    template = built;
+                }
+            }
+        }
+        return built;
+    }
+
+    private static Path build(ChromeOptions options, Function<ChromeOptions, WebDriver> launcher) {
+        long start = System.nanoTime();
+        // Leftovers from an earlier run would be served as if warmed now
+        deleteTree(ROOT);
+        Path dir = ROOT.resolve("template");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteTree(ROOT), "profile-template-cleanup"));
+
+        WebDriver driver = launcher.apply(withUserDataDir(options, dir));
+        try {
+            ConsentManager.preSeed(driver);
+            for (String url : warmUrls()) {
+                driver.get(url);
+            }
+        } finally {
+            driver.quit();
+        }
+        RunLog.record(RunEvent.PROFILE_TEMPLATE_BUILT, dir, (System.nanoTime() - start) / 1_000_000);
+        return dir;
+    }
+
+    private static List<String> warmUrls() {
+        return Arrays.stream(TestConfig.get("profile.warmUrls", "https://www.labcorp.com").split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+    }
+
+    private static ChromeOptions withUserDataDir(ChromeOptions options, Path dir) {
+        ChromeOptions copy = new ChromeOptions().merge(options);
+        copy.addArguments("--user-data-dir=" + dir);
+        return copy;
+    }
+
+    // ============================================================================
+    // FILE TREE HELPERS
+    // ============================================================================
+
+    private static void copyTree(Path source, Path target) {
+        if (reflinkCopy && reflinkTree(source, target)) {
+            for (String marker : SKIPPED_FILES) {
+                try {
+                    Files.deleteIfExists(target.resolve(marker));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not remove " + marker + " from " + target, e);
+                }
+            }
+            return;
+        }
+        try {
+            Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(target.resolve(source.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (attrs.isRegularFile() && !SKIPPED_FILES.contains(file.getFileName().toString())) {
+                        Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not clone " + source + " to " + target, e);
+        }
+    }
+
+    // GNU cp only; anything else (macOS, Windows, missing cp) falls back to the Java copy
+    private static boolean reflinkTree(Path source, Path target) {
+        try {
+            Process cp = new ProcessBuilder("cp", "-a", "--reflink=auto", source.toString(), target.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            if (cp.waitFor() == 0) {
+                return true;
+            }
+        } catch (IOException e) {
+            // No cp on this machine
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reflinkCopy = false;
+        deleteTree(target);
+        return false;
+    }
+
+    private static void deleteTree(Path root) {
+        if (root == null || !Files.exists(root)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            RunLog.record(RunEvent.STEP_WARNING, "delete " + root, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v117.network.Network;
+import org.openqa.selenium.devtools.v117.network.model.ResourceType;
+import org.openqa.selenium.devtools.v117.runtime.Runtime;
+import org.openqa.selenium.devtools.v117.target.Target;
+import org.openqa.selenium.devtools.v117.target.model.TargetID;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the HTTP status and size of every document the browser loads, so error pages can be
+ * recognised without downloading or scanning page source.
+ *
+ * Responses are captured from {@code Network.responseReceived} and
+ * {@code Network.loadingFinished} on a DevTools connection of the monitor's own. Besides the
+ * tab the scenario starts in, the connection auto-attaches to every tab opened later, such as
+ * the Workday application tab: new tabs are held until {@code Network} is enabled on them, so
+ * their first document is not missed. Without DevTools, the same data is read from the
+ * browser's Navigation Timing entry in one script call.
+ */
+public final class ResponseMonitor implements AutoCloseable {
+
+    public record DocumentResponse(String url, int status, long contentLength, String source) {
+
+        /** True when the browser saw no usable status (e.g. served from cache or a blocked request). */
+        public boolean isUnknown() {
+            return status <= 0;
+        }
+    }
+
+    private static final Duration ATTACH_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String NAVIGATION_TIMING_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "if (!nav) return null;" +
+        "return { url: nav.name, status: nav.responseStatus || 0, size: nav.decodedBodySize || nav.encodedBodySize || 0 };";
+
+    private final Connection connection;
+    private final Map<String, DocumentResponse> byUrl = new ConcurrentHashMap<>();
+    private final Map<String, DocumentResponse> pending = new ConcurrentHashMap<>();
+
+    private ResponseMonitor(Connection connection) {
+        this.connection = connection;
+    }
+
+    /** Starts recording on the session's current tab and every tab opened after it. */
+    public static ResponseMonitor start(WebDriver driver) {
+        Connection connection = null;
+        try {
+            connection = SeleniumCdpConnection.create(driver).orElse(null);
+            if (connection != null) {
+                ResponseMonitor monitor = new ResponseMonitor(connection);
+                monitor.listen();
+                // Browser-level auto-attach: new tabs wait for us before running any script
+                connection.sendAndWait(null, Target.setAutoAttach(true, true, Optional.of(true), Optional.empty()), ATTACH_TIMEOUT);
+                SessionID current = new SessionID(connection.sendAndWait(null,
+                    Target.attachToTarget(new TargetID(driver.getWindowHandle()), Optional.of(true)), ATTACH_TIMEOUT).toString());
+                connection.sendAndWait(current, Network.enable(Optional.empty(), Optional.empty(), Optional.empty()), ATTACH_TIMEOUT);
+                return monitor;
+            }
+        } catch (RuntimeException e) {
+            RunLog.record(RunEvent.DEVTOOLS_UNAVAILABLE, "response-monitor", e.getMessage());
+            if (connection != null) {
+                connection.close();
+            }
+        }
+        return new ResponseMonitor(null);
+    }
+
+    private void listen() {
+        connection.addListener(Target.attachedToTarget(), e -> {
+            SessionID session = new SessionID(e.getSessionId().toString());
+            if ("page".equals(e.getTargetInfo().getType())) {
+                connection.send(session, Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+            }
+            if (Boolean.TRUE.equals(e.getWaitingForDebugger())) {
+                connection.send(session, Runtime.runIfWaitingForDebugger());
+            }
+        });
+        connection.addListener(Network.responseReceived(), e -> {
+            if (e.getType() != ResourceType.DOCUMENT) {
+                return;
+            }
+            long declared = contentLength(e.getResponse().getHeaders());
+            DocumentResponse response = new DocumentResponse(
+                e.getResponse().getUrl(), e.getResponse().getStatus(), declared, "devtools");
+            byUrl.put(response.url(), response);
+            if (declared < 0) {
+                pending.put(e.getRequestId().toString(), response);
+            }
+        });
+        connection.addListener(Network.loadingFinished(), e -> {
+            DocumentResponse response = pending.remove(e.getRequestId().toString());
+            if (response != null) {
+                byUrl.put(response.url(), new DocumentResponse(response.url(), response.status(),
+                    e.getEncodedDataLength().longValue(), response.source()));
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /** Main document response of the current tab, or empty if the browser has none recorded. */
+    public Optional<DocumentResponse> mainDocument(WebDriver driver) {
+        Map<?, ?> nav = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING_SCRIPT);
+        if (nav == null) {
+            return Optional.empty();
+        }
+        String url = String.valueOf(nav.get("url"));
+        DocumentResponse recorded = byUrl.get(url);
+        if (recorded != null) {
+            return Optional.of(recorded);
+        }
+        return Optional.of(new DocumentResponse(url,
+            ((Number) nav.get("status")).intValue(),
+            ((Number) nav.get("size")).longValue(),
+            "navigation-timing"));
+    }
+
+    private static long contentLength(Map<String, Object> headers) {
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            if ("content-length".equalsIgnoreCase(header.getKey())) {
+                try {
+                    return Long.parseLong(String.valueOf(header.getValue()).trim());
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
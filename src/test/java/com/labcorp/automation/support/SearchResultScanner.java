@@ -0,0 +1,157 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.metrics.InstrumentedWait;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds the search result whose title matches a job title, scanning as little of the result
+ * list as possible.
+ *
+ * Each page of results is scanned by one script that walks the job cards in order and stops at
+ * the first title containing the wanted text (case-insensitive). Only when a page has no
+ * match does the scanner move on, preferring a "next page" link, then a "load more" button,
+ * then scrolling for infinitely scrolled lists. Cards already scanned on an appended list are
+ * skipped rather than re-read.
+ *
+ * The first scan waits, up to the page timeout, until the list has rendered at least one card
+ * or the site shows its empty-results message, so a slow search is not mistaken for no match.
+ */
+public final class SearchResultScanner {
+
+    /**
+     * Outcome of a scan: the matching card, if any, and how much of the list it took to decide.
+     * {@code pages} counts result pages, or appended batches for load-more and scrolling lists.
+     */
+    public record Result(Optional<WebElement> match, String matchedTitle, String matchedUrl, int cards, int pages) {
+    }
+
+    private static final String CARD_SELECTOR = "a[href*='/global/en/job/']";
+
+    // Arguments: wanted title, number of cards already scanned on this page
+    private static final String SCAN_SCRIPT =
+        "var wanted = arguments[0].trim().toLowerCase(), offset = arguments[1], seen = {}, cards = [];" +
+        "document.querySelectorAll(\"" + CARD_SELECTOR + "\").forEach(function (a) {" +
+        "  if (!seen[a.href]) { seen[a.href] = true; cards.push(a); }" +
+        "});" +
+        "for (var i = offset; i < cards.length; i++) {" +
+        "  var title = (cards[i].innerText || cards[i].textContent || '').trim().split('\\n')[0].trim();" +
+        "  if (title.toLowerCase().indexOf(wanted) >= 0) {" +
+        "    return { match: cards[i], title: title, url: cards[i].href, scanned: i - offset + 1, total: cards.length };" +
+        "  }" +
+        "}" +
+        "var next = document.querySelector(\"[data-ph-at-id='pagination-next-link'], a[aria-label*='next' i], a[rel='next']\");" +
+        "var more = document.querySelector(\"[data-ph-at-id='load-more-jobs-button'], button[aria-label*='load more' i]\");" +
+        "if (next && (next.getAttribute('aria-disabled') === 'true' || next.classList.contains('disabled'))) next = null;" +
+        "return { scanned: Math.max(0, cards.length - offset), total: cards.length," +
+        "  first: cards.length ? cards[0].href : null, next: next, more: more };";
+
+    private static final String EMPTY_RESULTS_SELECTOR =
+        "[data-ph-at-id*='no-result'], [class*='no-result'], [class*='noResult']";
+
+    // "cards", "empty" or null while the result list is still rendering
+    private static final String FIRST_RESULTS_SCRIPT =
+        "if (document.querySelector(\"" + CARD_SELECTOR + "\")) return 'cards';" +
+        "return document.querySelector(\"" + EMPTY_RESULTS_SELECTOR + "\") ? 'empty' : null;";
+
+    private static final String CARD_STATE_SCRIPT =
+        "var cards = document.querySelectorAll(\"" + CARD_SELECTOR + "\");" +
+        "return (cards.length ? cards[0].href : '') + '|' + cards.length;";
+
+    private static final String SCROLL_SCRIPT =
+        "var cards = document.querySelectorAll(\"" + CARD_SELECTOR + "\");" +
+        "if (cards.length) cards[cards.length - 1].scrollIntoView({ block: 'end' });" +
+        "window.scrollTo(0, document.body.scrollHeight);";
+
+    private final WebDriver driver;
+    private final int maxPages;
+    private final Duration pageTimeout;
+    private final Duration scrollTimeout;
+
+    public SearchResultScanner(WebDriver driver, int maxPages, Duration pageTimeout, Duration scrollTimeout) {
+        this.driver = driver;
+        this.maxPages = maxPages;
+        this.pageTimeout = pageTimeout;
+        this.scrollTimeout = scrollTimeout;
+    }
+
+    /** Scans result pages until a card title contains {@code jobTitle} or the list runs out. */
+    public Result find(String jobTitle) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        int cards = 0;
+        int pages = 1;
+        int offset = 0;
+        if ("empty".equals(awaitFirstResults())) {
+            return new Result(Optional.empty(), null, null, cards, pages);
+        }
+        while (true) {
+            Map<?, ?> page = (Map<?, ?>) js.executeScript(SCAN_SCRIPT, jobTitle, offset);
+            cards += ((Number) page.get("scanned")).intValue();
+            if (page.get("match") != null) {
+                return new Result(Optional.of((WebElement) page.get("match")),
+                    (String) page.get("title"), (String) page.get("url"), cards, pages);
+            }
+            if (pages >= maxPages) {
+                break;
+            }
+
+            int total = ((Number) page.get("total")).intValue();
+            String before = (String) js.executeScript(CARD_STATE_SCRIPT);
+            if (page.get("next") != null) {
+                // A new page replaces the list, so scanning starts again from its first card
+                ((WebElement) page.get("next")).click();
+                if (!awaitNewCards(new InstrumentedWait(driver, pageTimeout, "search-results-page"), before)) {
+                    break;
+                }
+                offset = 0;
+            } else {
+                if (page.get("more") != null) {
+                    ((WebElement) page.get("more")).click();
+                } else {
+                    js.executeScript(SCROLL_SCRIPT);
+                }
+                // Appended cards follow the ones already scanned
+                // Scrolling past the last card is expected to time out
+                InstrumentedWait wait = page.get("more") != null
+                    ? new InstrumentedWait(driver, pageTimeout, "search-results-page")
+                    : new InstrumentedWait(driver, scrollTimeout, "search-results-scroll").expectsTimeout();
+                if (!awaitNewCards(wait, before)) {
+                    break;
+                }
+                offset = total;
+            }
+            pages++;
+        }
+        return new Result(Optional.empty(), null, null, cards, pages);
+    }
+
+    // A timeout falls through to a scan of whatever has rendered
+    private String awaitFirstResults() {
+        try {
+            return new InstrumentedWait(driver, pageTimeout, "search-results-first")
+                .until(d -> (String) ((JavascriptExecutor) d).executeScript(FIRST_RESULTS_SCRIPT));
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    // The first card changes when a page is replaced; the count grows when cards are appended
+    private static boolean awaitNewCards(InstrumentedWait wait, String before) {
+        try {
+            wait.until(d -> {
+                String now = (String) ((JavascriptExecutor) d).executeScript(CARD_STATE_SCRIPT);
+                return !now.equals(before) && !now.endsWith("|0");
+            });
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+}
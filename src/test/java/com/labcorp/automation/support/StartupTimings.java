@@ -0,0 +1,71 @@
+package com.labcorp.automation.support;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import com.labcorp.automation.support.metrics.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-session breakdown of where browser startup time goes: driver binary resolution or the
+ * Grid status check (first session only), Chrome spawn (or pool acquisition), the first CDP
+ * handshake and the first navigation.
+ *
+ * {@link DriverManager} opens a breakdown for the calling thread when it starts a session;
+ * the phases are recorded as {@link Metrics.Kind#STARTUP} latencies and logged as one
+ * {@code startup.timings} run log event once the first navigation completes.
+ */
+public final class StartupTimings {
+
+    private static final ThreadLocal<StartupTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    private StartupTimings() {
+    }
+
+    static StartupTimings begin() {
+        StartupTimings timings = new StartupTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    void record(String phase, long nanos) {
+        phases.put(phase, nanos);
+        Metrics.record(Metrics.Kind.STARTUP, phase, nanos);
+    }
+
+    /** Runs the session's first navigation, then reports and closes the breakdown. */
+    public static void firstNavigation(Runnable navigation) {
+        StartupTimings timings = CURRENT.get();
+        if (timings == null) {
+            navigation.run();
+            return;
+        }
+        CURRENT.remove();
+        long start = System.nanoTime();
+        try {
+            navigation.run();
+        } finally {
+            timings.record("first-navigation", System.nanoTime() - start);
+            RunLog.record(RunEvent.STARTUP_TIMINGS, timings.toString(), timings.totalMillis());
+        }
+    }
+
+    static void discard() {
+        CURRENT.remove();
+    }
+
+    long totalMillis() {
+        return phases.values().stream().mapToLong(Long::longValue).sum() / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return phases.entrySet().stream()
+            .map(e -> e.getKey() + " " + e.getValue() / 1_000_000 + " ms")
+            .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,315 @@
+package com.labcorp.automation.support.api;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass scanner for Labcorp career pages.
+ *
+ * Reads the HTML character by character without building a DOM and keeps only what the job
+ * assertions need: JSON-LD {@code JobPosting} blocks (read with Selenium's {@link JsonInput}),
+ * the first {@code <h1>}, the visible job ID (the first element with a {@code jobId} class, or
+ * the first text reading "Job ID", as the browser steps locate it), and job links. Other script and style bodies are skipped without
+ * being parsed, and link collection stops once the requested number has been seen. The
+ * response has already been buffered by REST Assured; what the scanner saves is DOM
+ * construction, not memory.
+ */
+final class JobPageScanner {
+
+    /** What a scan found: job links in document order and the job posting, if any. */
+    record ScanResult(Map<String, String> jobLinks, Map<String, Object> jobPosting, String heading, String jobIdText) {
+    }
+
+    private static final Json JSON = new Json();
+    private static final Pattern LIST_ITEM = Pattern.compile("<li[^>]*>(.*?)</li>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern JOB_ID_LABEL = Pattern.compile("^job\\s*id\\s*:?\\s*", Pattern.CASE_INSENSITIVE);
+    // Longer text runs are page copy, not a job ID label
+    private static final int MAX_JOB_ID_TEXT = 100;
+
+    private final Reader in;
+    private final int maxLinks;
+
+    private JobPageScanner(Reader in, int maxLinks) {
+        this.in = in;
+        this.maxLinks = maxLinks;
+    }
+
+    static ScanResult scan(Reader reader, int maxLinks) {
+        try {
+            return new JobPageScanner(reader, maxLinks).run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read job page", e);
+        }
+    }
+
+    private ScanResult run() throws IOException {
+        Map<String, String> links = new LinkedHashMap<>();
+        Map<String, Object> posting = null;
+        String heading = null;
+        String jobIdText = null;
+        boolean inJobIdElement = false;
+        StringBuilder textRun = new StringBuilder();
+
+        int c;
+        while ((c = read()) != -1) {
+            if (c != '<') {
+                if (jobIdText == null && textRun.length() < MAX_JOB_ID_TEXT) {
+                    textRun.append((char) c);
+                }
+                continue;
+            }
+            if (jobIdText == null && !textRun.isEmpty()) {
+                String run = text(textRun.toString());
+                if (!run.isEmpty() && (inJobIdElement || JOB_ID_LABEL.matcher(run).find())) {
+                    jobIdText = run;
+                }
+                textRun.setLength(0);
+            }
+            String tag = readTag();
+            if (tag == null) {
+                continue;
+            }
+            String name = tagName(tag);
+            if (jobIdText == null && !name.startsWith("/")) {
+                String cssClass = attribute(tag, "class");
+                inJobIdElement = inJobIdElement || (cssClass != null && cssClass.toLowerCase().contains("jobid"));
+            }
+            switch (name) {
+                case "script": {
+                    String body = readUntil("</script");
+                    if (posting == null && tag.contains("application/ld+json")) {
+                        posting = findJobPosting(body);
+                    }
+                    break;
+                }
+                case "style":
+                    readUntil("</style");
+                    break;
+                case "h1":
+                    if (heading == null) {
+                        heading = text(readUntil("</h1"));
+                    }
+                    break;
+                case "a": {
+                    String href = attribute(tag, "href");
+                    if (href != null && href.contains("/job/") && links.size() < maxLinks) {
+                        links.putIfAbsent(href, text(readUntil("</a")));
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
+        return new ScanResult(links, posting, heading, jobIdText);
+    }
+
+    // ============================================================================
+    // JOB POSTING FIELDS
+    // ============================================================================
+
+    static JobPosting toJobPosting(String url, ScanResult page) {
+        Map<String, Object> ld = page.jobPosting() == null ? Map.of() : page.jobPosting();
+        String title = string(ld.get("title"));
+        if (title.isEmpty() && page.heading() != null) {
+            title = page.heading();
+        }
+        // JSON-LD descriptions are usually entity-escaped HTML
+        String descriptionHtml = unescape(string(ld.get("description")));
+        String descriptionText = text(descriptionHtml);
+
+        List<String> requirements = new ArrayList<>();
+        Matcher item = LIST_ITEM.matcher(descriptionHtml);
+        while (item.find()) {
+            requirements.add(text(item.group(1)));
+        }
+
+        String introduction = "";
+        for (String sentence : descriptionText.split("(?<=\\.)\\s+|\\n")) {
+            if (sentence.trim().length() > 20) {
+                introduction = sentence.trim();
+                break;
+            }
+        }
+
+        // Pages without a JSON-LD identifier still show the ID the browser steps assert on
+        String jobId = identifier(ld.get("identifier"));
+        if (jobId.isEmpty() && page.jobIdText() != null) {
+            jobId = JOB_ID_LABEL.matcher(page.jobIdText()).replaceFirst("").trim();
+        }
+
+        return new JobPosting(url, title, location(ld.get("jobLocation")), jobId,
+            introduction, requirements, descriptionText);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String location(Object jobLocation) {
+        if (jobLocation instanceof List && !((List<?>) jobLocation).isEmpty()) {
+            return location(((List<?>) jobLocation).get(0));
+        }
+        if (!(jobLocation instanceof Map)) {
+            return string(jobLocation);
+        }
+        Object address = ((Map<String, Object>) jobLocation).get("address");
+        if (!(address instanceof Map)) {
+            return string(address);
+        }
+        Map<String, Object> parts = (Map<String, Object>) address;
+        List<String> values = new ArrayList<>();
+        for (String key : List.of("addressLocality", "addressRegion", "addressCountry")) {
+            Object value = parts.get(key);
+            if (value instanceof Map) {
+                value = ((Map<?, ?>) value).get("name");
+            }
+            if (!string(value).isEmpty()) {
+                values.add(string(value));
+            }
+        }
+        return String.join(", ", values);
+    }
+
+    private static String identifier(Object identifier) {
+        if (identifier instanceof Map) {
+            return string(((Map<?, ?>) identifier).get("value"));
+        }
+        return string(identifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> findJobPosting(String jsonLd) {
+        try (JsonInput input = JSON.newInput(new StringReader(jsonLd))) {
+            Object value = input.read(Object.class);
+            List<Object> candidates = new ArrayList<>();
+            if (value instanceof List) {
+                candidates.addAll((List<Object>) value);
+            } else if (value instanceof Map) {
+                Object graph = ((Map<String, Object>) value).get("@graph");
+                candidates.add(value);
+                if (graph instanceof List) {
+                    candidates.addAll((List<Object>) graph);
+                }
+            }
+            for (Object candidate : candidates) {
+                if (candidate instanceof Map && "JobPosting".equals(((Map<?, ?>) candidate).get("@type"))) {
+                    return (Map<String, Object>) candidate;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Malformed JSON-LD: fall back to the HTML heading
+        }
+        return null;
+    }
+
+    // ============================================================================
+    // LOW-LEVEL SCANNING
+    // ============================================================================
+
+    private int read() throws IOException {
+        return in.read();
+    }
+
+    // Reads from just after '<' to the closing '>', honouring quoted attribute values
+    private String readTag() throws IOException {
+        StringBuilder tag = new StringBuilder();
+        int c = read();
+        if (c == '!') {
+            skipComment();
+            return null;
+        }
+        char quote = 0;
+        while (c != -1) {
+            if (quote == 0 && c == '>') {
+                return tag.toString();
+            }
+            if (c == '"' || c == '\'') {
+                quote = quote == 0 ? (char) c : (quote == c ? 0 : quote);
+            }
+            tag.append((char) c);
+            c = read();
+        }
+        return null;
+    }
+
+    private void skipComment() throws IOException {
+        // "<!-- ... -->" or "<!DOCTYPE ...>"
+        int c = read();
+        if (c != '-') {
+            while (c != -1 && c != '>') {
+                c = read();
+            }
+            return;
+        }
+        int dashes = 0;
+        while ((c = read()) != -1) {
+            if (c == '>' && dashes >= 2) {
+                return;
+            }
+            dashes = c == '-' ? dashes + 1 : 0;
+        }
+    }
+
+    // Returns everything up to a case-insensitive terminator and consumes the rest of that tag
+    private String readUntil(String terminator) throws IOException {
+        StringBuilder body = new StringBuilder();
+        int matched = 0;
+        int c;
+        while ((c = read()) != -1) {
+            body.append((char) c);
+            matched = Character.toLowerCase((char) c) == terminator.charAt(matched) ? matched + 1
+                : (Character.toLowerCase((char) c) == terminator.charAt(0) ? 1 : 0);
+            if (matched == terminator.length()) {
+                while (c != -1 && c != '>') {
+                    c = read();
+                }
+                body.setLength(body.length() - terminator.length());
+                return body.toString();
+            }
+        }
+        return body.toString();
+    }
+
+    private static String tagName(String tag) {
+        int end = 0;
+        while (end < tag.length() && !Character.isWhitespace(tag.charAt(end)) && tag.charAt(end) != '/') {
+            end++;
+        }
+        return tag.substring(0, end).toLowerCase();
+    }
+
+    private static String attribute(String tag, String name) {
+        Matcher m = Pattern.compile("\\b" + name + "\\s*=\\s*(\"([^\"]*)\"|'([^']*)'|([^\\s>]+))", Pattern.CASE_INSENSITIVE)
+            .matcher(tag);
+        if (!m.find()) {
+            return null;
+        }
+        return m.group(2) != null ? m.group(2) : m.group(3) != null ? m.group(3) : m.group(4);
+    }
+
+    static String text(String html) {
+        return unescape(TAG.matcher(html).replaceAll(" "))
+            .replaceAll("[ \\t\\x0B\\f\\r]+", " ")
+            .replaceAll(" ?\\n ?", "\n")
+            .trim();
+    }
+
+    private static String unescape(String html) {
+        return html.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&#39;", "'")
+            .replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+}
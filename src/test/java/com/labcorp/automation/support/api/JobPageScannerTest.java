@@ -0,0 +1,54 @@
+package com.labcorp.automation.support.api;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JobPageScannerTest {
+
+    private static final String DETAIL_PAGE =
+        "<html><head><script type=\"application/ld+json\">{\"@type\": \"JobPosting\", \"title\": \"QA Engineer\","
+        + " \"identifier\": {\"value\": \"123\"}, \"jobLocation\": {\"address\": {\"addressLocality\": \"Durham\","
+        + " \"addressCountry\": \"United States\"}}, \"description\": \"&lt;p&gt;Build the test automation framework.&lt;/p&gt;"
+        + "&lt;ul&gt;&lt;li&gt;Java&lt;/li&gt;&lt;li&gt;Selenium&lt;/li&gt;&lt;/ul&gt;\"}</script>"
+        + "<script>console.log(\"<a href='/global/en/job/0'>not a link</a>\");</script></head>"
+        + "<body><h1>QA Engineer</h1><span class=\"jobId\">Job ID : 123</span></body></html>";
+
+    @Test
+    public void readsPostingFieldsFromJsonLd() {
+        JobPosting posting = scan(DETAIL_PAGE);
+
+        assertEquals("QA Engineer", posting.title());
+        assertEquals("Durham, United States", posting.location());
+        assertEquals("123", posting.jobId());
+        assertEquals(List.of("Java", "Selenium"), posting.requirements());
+        assertEquals("Build the test automation framework.", posting.introduction());
+    }
+
+    @Test
+    public void fallsBackToTheHeadingAndVisibleJobId() {
+        JobPosting posting = scan("<body><h1>Senior QA</h1><p>About us</p><span>Job ID: 456</span></body>");
+
+        assertEquals("Senior QA", posting.title());
+        assertEquals("456", posting.jobId());
+    }
+
+    @Test
+    public void collectsJobLinksOutsideScriptsUpToTheLimit() {
+        String page = "<script>var s = \"<a href='/global/en/job/0'>x</a>\";</script>"
+            + "<a href=\"/global/en/job/1/A\"><span>A</span></a><a href=\"/about\">About</a>"
+            + "<a href='/global/en/job/2/B'>B</a><a href=/global/en/job/3/C>C</a>";
+
+        JobPageScanner.ScanResult result = JobPageScanner.scan(new StringReader(page), 2);
+
+        assertEquals(List.of("/global/en/job/1/A", "/global/en/job/2/B"), List.copyOf(result.jobLinks().keySet()));
+        assertEquals("A", result.jobLinks().get("/global/en/job/1/A"));
+    }
+
+    private static JobPosting scan(String html) {
+        return JobPageScanner.toJobPosting("http://localhost/job", JobPageScanner.scan(new StringReader(html), 0));
+    }
+}
@@ -0,0 +1,14 @@
+package com.labcorp.automation.support.api;
+
+import java.util.List;
+
+/** Job posting fields parsed from a job detail document fetched over HTTP. */
+public record JobPosting(
+        String url,
+        String title,
+        String location,
+        String jobId,
+        String introduction,
+        List<String> requirements,
+        String descriptionText) {
+}
@@ -0,0 +1,117 @@
+package com.labcorp.automation.support.api;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Browserless access to the careers site: fetches search results and job detail documents
+ * with REST Assured and parses them with {@link JobPageScanner}.
+ *
+ * Detail pages are fetched and parsed concurrently on a small fixed pool
+ * ({@code -Dapi.concurrency}, default 8).
+ */
+public final class JobPostingClient implements AutoCloseable {
+
+    private static final String SEARCH_PATH = "/global/en/search-results";
+    private static final String JOB_PATH = "/global/en/job/";
+
+    private final String baseUri;
+    private final ExecutorService pool;
+
+    public JobPostingClient(String baseUri, int concurrency) {
+        this.baseUri = baseUri;
+        this.pool = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "job-api");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Absolute URLs of up to {@code max} job detail pages listed for the keywords. */
+    public List<String> searchJobUrls(String keywords, int max) {
+        Response response = RestAssured.given()
+            .baseUri(baseUri)
+            .queryParam("keywords", keywords)
+            .when()
+            .get(SEARCH_PATH)
+            .then()
+            .statusCode(200)
+            .extract()
+            .response();
+
+        JobPageScanner.ScanResult page;
+        try (Reader reader = new InputStreamReader(response.asInputStream(), StandardCharsets.UTF_8)) {
+            page = JobPageScanner.scan(reader, max);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> urls = new ArrayList<>();
+        URI base = URI.create(baseUri);
+        for (String href : page.jobLinks().keySet()) {
+            if (href.contains(JOB_PATH)) {
+                urls.add(base.resolve(href).toString());
+            }
+        }
+        return urls;
+    }
+
+    public JobPosting fetch(String url) {
+        Response response = RestAssured.given()
+            .when()
+            .get(url)
+            .then()
+            .statusCode(200)
+            .extract()
+            .response();
+        try (Reader reader = new InputStreamReader(response.asInputStream(), StandardCharsets.UTF_8)) {
+            return JobPageScanner.toJobPosting(url, JobPageScanner.scan(reader, 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fetches and parses all pages concurrently, preserving input order. A failed fetch is
+     * rethrown as it was raised on the pool thread, e.g. REST Assured's status assertion.
+     */
+    public List<JobPosting> fetchAll(List<String> urls) {
+        List<CompletableFuture<JobPosting>> futures = new ArrayList<>();
+        for (String url : urls) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetch(url), pool));
+        }
+        List<JobPosting> postings = new ArrayList<>();
+        for (CompletableFuture<JobPosting> future : futures) {
+            try {
+                postings.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return postings;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.labcorp.automation.support.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the careers site, serving the fixture pages under
+ * {@code src/test/resources/standin/}:
+ *
+ * <ul>
+ *   <li>{@code /global/en/search-results} - {@code search-results.html}, keeping only the
+ *       result items whose text contains every word of the {@code keywords} parameter, so a
+ *       search for one title does not return the others</li>
+ *   <li>{@code /global/en/job/<id>/...} - {@code job-<id>.html}</li>
+ * </ul>
+ *
+ * Selected for the HTTP validation steps with {@code -Dapi.baseUrl=standin}.
+ */
+public final class JobStandInServer implements AutoCloseable {
+
+    private static final Pattern RESULT_ITEM = Pattern.compile("<li class=\"jobs-list-item\">.*?</li>", Pattern.DOTALL);
+
+    private final HttpServer server;
+
+    private JobStandInServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static JobStandInServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/", JobStandInServer::handle);
+            server.start();
+            return new JobStandInServer(server);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start job stand-in server", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String fixture = null;
+            if (path.equals("/global/en/search-results")) {
+                fixture = "search-results.html";
+            } else if (path.startsWith("/global/en/job/")) {
+                fixture = "job-" + path.substring("/global/en/job/".length()).split("/")[0] + ".html";
+            }
+            byte[] body = fixture == null ? null : readFixture(fixture);
+            if (body != null && fixture.equals("search-results.html")) {
+                body = matching(new String(body, StandardCharsets.UTF_8), keywords(exchange.getRequestURI()))
+                    .getBytes(StandardCharsets.UTF_8);
+            }
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String keywords(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return "";
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("keywords=")) {
+                return URLDecoder.decode(parameter.substring("keywords=".length()), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static String matching(String page, String keywords) {
+        List<String> words = Arrays.stream(keywords.toLowerCase().split("\\s+")).filter(w -> !w.isEmpty()).toList();
+        Matcher item = RESULT_ITEM.matcher(page);
+        StringBuilder out = new StringBuilder();
+        while (item.find()) {
+            String text = item.group().replaceAll("<[^>]+>", " ").toLowerCase();
+            boolean matches = words.stream().allMatch(text::contains);
+            item.appendReplacement(out, matches ? Matcher.quoteReplacement(item.group()) : "");
+        }
+        item.appendTail(out);
+        return out.toString();
+    }
+
+    private static byte[] readFixture(String name) throws IOException {
+        if (!name.matches("[A-Za-z0-9._-]+")) {
+            return null;
+        }
+        try (InputStream in = JobStandInServer.class.getResourceAsStream("/standin/" + name)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
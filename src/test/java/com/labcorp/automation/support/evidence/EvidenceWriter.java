@@ -0,0 +1,125 @@
+package com.labcorp.automation.support.evidence;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Background writer that compresses failure evidence into one zip per scenario.
+ *
+ * Work is queued on a bounded executor; when the queue is full the bundle is rejected
+ * immediately instead of blocking the scenario thread, and once {@code maxTotalBytes} have
+ * been written further bundles are skipped. Both are counted and printed when the JVM exits,
+ * after the queue has been drained for up to {@code drainTimeout} seconds.
+ */
+final class EvidenceWriter {
+
+    private final Path directory;
+    private final long maxTotalBytes;
+    private final long drainTimeoutSeconds;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger overBudget = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    EvidenceWriter(Path directory, int threads, int queueSize, long maxTotalBytes, long drainTimeoutSeconds) {
+        this.directory = directory;
+        this.maxTotalBytes = maxTotalBytes;
+        this.drainTimeoutSeconds = drainTimeoutSeconds;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "evidence-writer-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "evidence-drain"));
+    }
+
+    /** True while a capture would be accepted; checked before taking anything from the browser. */
+    boolean hasCapacity() {
+        return executor.getQueue().remainingCapacity() > 0 && bytesWritten.get() < maxTotalBytes;
+    }
+
+    void rejectEarly() {
+        if (bytesWritten.get() >= maxTotalBytes) {
+            overBudget.incrementAndGet();
+        } else {
+            rejected.incrementAndGet();
+        }
+    }
+
+    /** Queues the bundle; returns the zip it will be written to, or null if it was rejected. */
+    Path submit(String name, Map<String, byte[]> entries) {
+        Path target = directory.resolve(name + ".zip");
+        try {
+            executor.execute(() -> write(target, entries));
+            return target;
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return null;
+        }
+    }
+
+    private void write(Path target, Map<String, byte[]> entries) {
+        if (bytesWritten.get() >= maxTotalBytes) {
+            overBudget.incrementAndGet();
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream file = Files.newOutputStream(target);
+                 ZipOutputStream zip = new ZipOutputStream(file)) {
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    // PNGs are already compressed; deflating them again only burns CPU
+                    zip.setLevel(entry.getKey().endsWith(".png") ? Deflater.NO_COMPRESSION : Deflater.BEST_SPEED);
+                    zip.putNextEntry(new ZipEntry(entry.getKey()));
+                    zip.write(entry.getValue());
+                    zip.closeEntry();
+                }
+            }
+            bytesWritten.addAndGet(Files.size(target));
+            written.incrementAndGet();
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, target, e.getMessage());
+        }
+    }
+
+    private void drain() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(drainTimeoutSeconds, TimeUnit.SECONDS)) {
+                System.out.println("Failure evidence still being written after " + drainTimeoutSeconds + "s, abandoning it");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (written.get() + rejected.get() + overBudget.get() + failed.get() > 0) {
+            System.out.printf("Failure evidence: written=%d (%.1f MB), rejectedQueueFull=%d, skippedOverBudget=%d, failed=%d, dir=%s%n",
+                written.get(), bytesWritten.get() / 1_048_576.0, rejected.get(), overBudget.get(), failed.get(),
+                directory.toAbsolutePath());
+        }
+    }
+}
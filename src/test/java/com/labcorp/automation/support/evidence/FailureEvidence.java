@@ -0,0 +1,139 @@
+package com.labcorp.automation.support.evidence;
+
+import com.labcorp.automation.support.TestConfig;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Evidence for a failed scenario: screenshot, DOM, browser console and a network timing log.
+ *
+ * Only the reads from the browser happen on the scenario thread, each guarded so one failing
+ * read does not lose the others. Compression and disk I/O happen in {@link EvidenceWriter}.
+ * If the writer's queue is full, or {@code evidence.maxTotalMB} (default 200) has been
+ * written, nothing is read from the browser at all. Text artifacts are truncated to
+ * {@code evidence.maxArtifactKB} (default 2048). Zips land in {@code evidence.dir}
+ * (default {@code target/evidence}); {@code -Devidence.enabled=false} turns capture off.
+ */
+public final class FailureEvidence {
+
+    private static final Json JSON = new Json();
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    // Network entries come from the Resource Timing buffer: one script, no DevTools recording.
+    // Resource Timing has no methods or headers, so this is plain JSON rather than a HAR.
+    private static final String NETWORK_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "var start = performance.timeOrigin;" +
+        "return [].concat(nav ? [nav] : [], performance.getEntriesByType('resource')).map(function (e) {" +
+        "  return { url: e.name, type: e.initiatorType || e.entryType, startMs: start + e.startTime," +
+        "           durationMs: e.duration, status: e.responseStatus || 0, transferSize: e.transferSize || 0," +
+        "           bodySize: e.decodedBodySize || 0 };" +
+        "});";
+
+    private static final boolean ENABLED = TestConfig.getBoolean("evidence.enabled", true);
+    private static final int MAX_ARTIFACT_BYTES = TestConfig.getInt("evidence.maxArtifactKB", 2048) * 1024;
+    private static final EvidenceWriter WRITER = new EvidenceWriter(
+        Path.of(TestConfig.get("evidence.dir", "target/evidence")),
+        TestConfig.getInt("evidence.threads", 1),
+        TestConfig.getInt("evidence.queueSize", 8),
+        TestConfig.getLong("evidence.maxTotalMB", 200) * 1_048_576,
+        TestConfig.getLong("evidence.drainSeconds", 30));
+
+    private FailureEvidence() {
+    }
+
+    /** Reads the evidence and hands it to the background writer; returns the zip path it will have. */
+    public static Optional<Path> capture(WebDriver driver, String scenarioName) {
+        if (!ENABLED) {
+            return Optional.empty();
+        }
+        if (!WRITER.hasCapacity()) {
+            WRITER.rejectEarly();
+            return Optional.empty();
+        }
+
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        read(errors, "screenshot", () -> entries.put("screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES)));
+        read(errors, "url", () -> entries.put("url.txt", utf8(driver.getCurrentUrl())));
+        read(errors, "dom", () -> entries.put("dom.html", capped(driver.getPageSource())));
+        read(errors, "console", () -> entries.put("console.json", capped(JSON.toJson(consoleLog(driver)))));
+        read(errors, "network", () -> entries.put("network.json", capped(JSON.toJson(network(driver)))));
+        if (!errors.isEmpty()) {
+            entries.put("capture-errors.txt", utf8(String.join("\n", errors)));
+        }
+
+        String name = scenarioName.replaceAll("[^A-Za-z0-9._-]+", "_") + "-" + LocalDateTime.now().format(STAMP);
+        return Optional.ofNullable(WRITER.submit(name, entries));
+    }
+
+    private static void read(List<String> errors, String artifact, Runnable reader) {
+        try {
+            reader.run();
+        } catch (RuntimeException e) {
+            errors.add(artifact + ": " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private static List<Map<String, Object>> consoleLog(WebDriver driver) {
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("timestamp", entry.getTimestamp());
+            message.put("level", entry.getLevel().getName());
+            message.put("message", entry.getMessage());
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    // One entry per document or subresource, in the order the browser started them
+    private static List<Map<String, Object>> network(WebDriver driver) {
+        List<?> timings = (List<?>) ((JavascriptExecutor) driver).executeScript(NETWORK_SCRIPT);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Object raw : timings) {
+            Map<?, ?> timing = (Map<?, ?>) raw;
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("url", timing.get("url"));
+            entry.put("initiatorType", timing.get("type"));
+            entry.put("startedDateTime", Instant.ofEpochMilli(((Number) timing.get("startMs")).longValue()).toString());
+            entry.put("durationMs", timing.get("durationMs"));
+            entry.put("status", timing.get("status"));
+            entry.put("transferSize", timing.get("transferSize"));
+            entry.put("bodySize", timing.get("bodySize"));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static byte[] capped(String text) {
+        byte[] bytes = utf8(text);
+        if (bytes.length <= MAX_ARTIFACT_BYTES) {
+            return bytes;
+        }
+        byte[] truncated = new byte[MAX_ARTIFACT_BYTES];
+        System.arraycopy(bytes, 0, truncated, 0, MAX_ARTIFACT_BYTES);
+        return truncated;
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package com.labcorp.automation.support.grid;
+
+import com.labcorp.automation.support.DriverFactory;
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.metrics.Metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code RemoteWebDriver} sessions on a Selenium Grid.
+ *
+ * Before requesting a session the factory reads the Grid's {@code /status} and only proceeds
+ * when a node has a free Chrome slot that no other thread of this JVM is already claiming;
+ * otherwise the caller queues here, re-checking every {@code grid.pollMillis}, for up to
+ * {@code grid.acquireTimeoutSeconds}. Queueing on the client keeps requests from timing out
+ * in the Grid's own new-session queue and makes the wait measurable: it is recorded as the
+ * {@code grid-queue} startup phase and summarised when the JVM exits.
+ *
+ * Sessions are augmented so DevTools-based features keep working over the Grid's CDP proxy.
+ * {@code -Dgrid.url=standalone} launches a local Selenium standalone server from
+ * {@code grid.serverJar} (see {@link GridStandalone}).
+ */
+public final class GridDriverFactory implements DriverFactory {
+
+    private final URI gridUrl;
+    private final Duration acquireTimeout;
+    private final Duration pollInterval;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+    // Sessions this JVM has been granted a slot for but which /status may not show yet
+    private final Object gate = new Object();
+    private int claimed;
+
+    // Metrics
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger peakQueued = new AtomicInteger();
+
+    GridDriverFactory(URI gridUrl, Duration acquireTimeout, Duration pollInterval) {
+        this.gridUrl = gridUrl;
+        this.acquireTimeout = acquireTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    public static GridDriverFactory fromConfig() {
+        String url = TestConfig.get("grid.url", "http://localhost:4444");
+        URI gridUrl = url.equals("standalone")
+            ? GridStandalone.start(TestConfig.get("grid.serverJar", ""), TestConfig.getInt("grid.maxSessions", 4))
+            : URI.create(url.endsWith("/") ? url : url + "/");
+        GridDriverFactory factory = new GridDriverFactory(gridUrl,
+            Duration.ofSeconds(TestConfig.getLong("grid.acquireTimeoutSeconds", 300)),
+            Duration.ofMillis(TestConfig.getLong("grid.pollMillis", 500)));
+        Runtime.getRuntime().addShutdownHook(new Thread(factory::printMetrics, "grid-metrics"));
+        return factory;
+    }
+
+    @Override
+    public void prepare() {
+        GridStatus status = GridStatus.fetch(client, gridUrl, "chrome");
+        if (status.totalSlots() == 0) {
+            throw new IllegalStateException("Selenium Grid at " + gridUrl + " has no Chrome slots: " + status.describe());
+        }
+    }
+
+    @Override
+    public String preparePhase() {
+        return "grid-status";
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        long start = System.nanoTime();
+        peakQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+        try {
+            claimSlot(options.getBrowserName(), start);
+        } finally {
+            queued.decrementAndGet();
+            long waited = System.nanoTime() - start;
+            acquisitions.incrementAndGet();
+            totalQueueNanos.addAndGet(waited);
+            maxQueueNanos.accumulateAndGet(waited, Math::max);
+            Metrics.record(Metrics.Kind.STARTUP, "grid-queue", waited);
+        }
+
+        try {
+            WebDriver remote = RemoteWebDriver.builder().oneOf(options).address(gridUrl.toURL()).build();
+            return new Augmenter().augment(remote);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid Selenium Grid URL " + gridUrl, e);
+        } finally {
+            // Once created (or failed) the session shows up in /status by itself
+            synchronized (gate) {
+                claimed--;
+                gate.notifyAll();
+            }
+        }
+    }
+
+    private void claimSlot(String browserName, long start) {
+        synchronized (gate) {
+            while (true) {
+                GridStatus status = GridStatus.fetch(client, gridUrl, browserName);
+                if (status.freeSlots() - claimed > 0) {
+                    claimed++;
+                    return;
+                }
+                long remaining = acquireTimeout.toNanos() - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out after " + acquireTimeout.toSeconds()
+                        + "s waiting for a free Grid slot: " + status.describe());
+                }
+                try {
+                    long waitNanos = Math.min(remaining, pollInterval.toNanos());
+                    gate.wait(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a free Grid slot", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "grid " + gridUrl;
+    }
+
+    private void printMetrics() {
+        long count = acquisitions.get();
+        double avgMs = count == 0 ? 0 : totalQueueNanos.get() / 1_000_000.0 / count;
+        System.out.printf("Grid sessions: url=%s, acquisitions=%d, avgQueue=%.1fms, maxQueue=%.1fms, peakQueued=%d%n",
+            gridUrl, count, avgMs, maxQueueNanos.get() / 1_000_000.0, peakQueued.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.labcorp.automation.support.grid;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Selenium standalone server launched as a child process, so the Grid backend can be
+ * exercised without a real Grid. Started for {@code -Dgrid.url=standalone} from the jar
+ * given as {@code grid.serverJar}; output goes to {@code target/grid-standalone.log} and the
+ * process is stopped when the JVM exits.
+ */
+final class GridStandalone {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+
+    private GridStandalone() {
+    }
+
+    static URI start(String serverJar, int maxSessions) {
+        if (serverJar.isBlank() || !Files.isRegularFile(Path.of(serverJar))) {
+            throw new IllegalArgumentException("-Dgrid.url=standalone needs -Dgrid.serverJar pointing at a selenium-server jar, got '"
+                + serverJar + "'");
+        }
+        int port = freePort();
+        Path log = Path.of("target", "grid-standalone.log");
+        Process process;
+        try {
+            Files.createDirectories(log.getParent());
+            process = new ProcessBuilder(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-jar", serverJar, "standalone",
+                    "--port", String.valueOf(port),
+                    "--max-sessions", String.valueOf(maxSessions),
+                    "--selenium-manager", "true"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not launch Selenium standalone server from " + serverJar, e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(process::destroy, "grid-standalone-stop"));
+
+        URI url = URI.create("http://localhost:" + port + "/");
+        awaitReady(process, url, log.toFile());
+        RunLog.record(RunEvent.GRID_STANDALONE_READY, url, maxSessions);
+        return url;
+    }
+
+    private static void awaitReady(Process process, URI url, File log) {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Selenium standalone server exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (GridStatus.fetch(client, url, "chrome").ready()) {
+                    return;
+                }
+            } catch (IllegalStateException e) {
+                // Not listening yet
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the Selenium standalone server", e);
+            }
+        }
+        process.destroy();
+        throw new IllegalStateException("Selenium standalone server not ready within " + STARTUP_TIMEOUT.toSeconds() + "s, see " + log);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("No free port for the Selenium standalone server", e);
+        }
+    }
+}
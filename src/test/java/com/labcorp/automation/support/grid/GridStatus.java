@@ -0,0 +1,98 @@
+package com.labcorp.automation.support.grid;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of a Selenium Grid's {@code /status}: each node and how many of its slots for a
+ * given browser are in use.
+ */
+public record GridStatus(boolean ready, List<Node> nodes) {
+
+    private static final Json JSON = new Json();
+
+    /** One Grid node and its slots for the requested browser. */
+    public record Node(String uri, boolean up, int slots, int busy) {
+
+        public int free() {
+            return up ? slots - busy : 0;
+        }
+    }
+
+    public int freeSlots() {
+        return nodes.stream().mapToInt(Node::free).sum();
+    }
+
+    public int totalSlots() {
+        return nodes.stream().filter(Node::up).mapToInt(Node::slots).sum();
+    }
+
+    /** e.g. {@code 2 nodes, 3/8 free (http://a:5555 1/4, http://b:5555 2/4)} */
+    public String describe() {
+        return nodes.size() + " nodes, " + freeSlots() + "/" + totalSlots() + " free ("
+            + nodes.stream()
+                .map(n -> n.uri() + " " + (n.up() ? n.free() + "/" + n.slots() : "down"))
+                .collect(Collectors.joining(", "))
+            + ")";
+    }
+
+    static GridStatus fetch(HttpClient client, URI gridUrl, String browserName) {
+        HttpResponse<String> response;
+        try {
+            response = client.send(
+                HttpRequest.newBuilder(gridUrl.resolve("status")).timeout(Duration.ofSeconds(10)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Selenium Grid at " + gridUrl + " is not reachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying Selenium Grid status", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Selenium Grid at " + gridUrl + " returned HTTP " + response.statusCode() + " for /status");
+        }
+        return parse(response.body(), browserName);
+    }
+
+    static GridStatus parse(String body, String browserName) {
+        Map<String, Object> response = JSON.toType(body, Json.MAP_TYPE);
+        Map<String, Object> value = asMap(response.get("value"));
+        List<Node> nodes = new ArrayList<>();
+        for (Object rawNode : asList(value.get("nodes"))) {
+            Map<String, Object> node = asMap(rawNode);
+            int slots = 0;
+            int busy = 0;
+            for (Object rawSlot : asList(node.get("slots"))) {
+                Map<String, Object> slot = asMap(rawSlot);
+                Object stereotypeBrowser = asMap(slot.get("stereotype")).get("browserName");
+                if (browserName.equalsIgnoreCase(String.valueOf(stereotypeBrowser))) {
+                    slots++;
+                    if (slot.get("session") != null) {
+                        busy++;
+                    }
+                }
+            }
+            nodes.add(new Node(String.valueOf(node.get("uri")), "UP".equals(node.get("availability")), slots, busy));
+        }
+        return new GridStatus(Boolean.TRUE.equals(value.get("ready")), nodes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static List<?> asList(Object value) {
+        return value instanceof List ? (List<?>) value : List.of();
+    }
+}
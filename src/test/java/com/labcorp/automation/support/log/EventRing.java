@@ -0,0 +1,95 @@
+package com.labcorp.automation.support.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size multi-producer, single-consumer ring of preallocated event slots.
+ *
+ * Producers claim a sequence number with one CAS, fill the slot in place and publish it by
+ * writing the sequence into the slot; nothing is allocated per event. When the consumer has
+ * fallen a full ring behind, the event is dropped and counted rather than blocking the
+ * producer.
+ */
+final class EventRing {
+
+    static final class Slot {
+        volatile long published = -1;
+        long epochMillis;
+        RunEvent event;
+        String correlationId;
+        String thread;
+        Object a;
+        Object b;
+        Object c;
+        long number;
+
+        private void clear() {
+            event = null;
+            correlationId = null;
+            thread = null;
+            a = null;
+            b = null;
+            c = null;
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long consumed;
+
+    EventRing(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        mask = capacity - 1;
+    }
+
+    boolean publish(RunEvent event, String correlationId, Object a, Object b, Object c, long number) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.epochMillis = System.currentTimeMillis();
+        slot.event = event;
+        slot.correlationId = correlationId;
+        slot.thread = Thread.currentThread().getName();
+        slot.a = a;
+        slot.b = b;
+        slot.c = c;
+        slot.number = number;
+        slot.published = sequence;
+        return true;
+    }
+
+    /** Hands every published slot, in order, to {@code consumer}; only the flusher thread calls this. */
+    int drain(Consumer<Slot> consumer) {
+        long next = consumed;
+        int count = 0;
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.published != next) {
+                return count;
+            }
+            consumer.accept(slot);
+            slot.clear();
+            next++;
+            consumed = next;
+            count++;
+        }
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.labcorp.automation.support.log;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EventRingTest {
+
+    @Test
+    public void roundsCapacityUpToAPowerOfTwo() {
+        EventRing ring = new EventRing(5);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(ring.publish(RunEvent.STEP_WARNING, "sc-0001", "where", i, null, i));
+        }
+        assertFalse(ring.publish(RunEvent.STEP_WARNING, "sc-0001", "where", 8, null, 8));
+    }
+
+    @Test
+    public void drainsInOrderAcrossTheWraparound() {
+        EventRing ring = new EventRing(4);
+        List<Object> seen = new ArrayList<>();
+        int next = 0;
+        // Ten laps of a four-slot ring, publishing three and draining them each time
+        for (int lap = 0; lap < 10; lap++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(ring.publish(RunEvent.STEP_WARNING, null, "where", next++, null, 0));
+            }
+            assertEquals(3, ring.drain(slot -> seen.add(slot.b)));
+        }
+
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < next; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, seen);
+        assertEquals(0, ring.dropped());
+    }
+
+    @Test
+    public void dropsAndCountsEventsWhenTheConsumerIsAFullRingBehind() {
+        EventRing ring = new EventRing(4);
+        for (int i = 0; i < 6; i++) {
+            ring.publish(RunEvent.STEP_WARNING, null, "where", i, null, 0);
+        }
+        List<Object> seen = new ArrayList<>();
+        ring.drain(slot -> seen.add(slot.b));
+
+        assertEquals(List.of(0, 1, 2, 3), seen);
+        assertEquals(2, ring.dropped());
+        // Draining frees the slots for new events
+        assertTrue(ring.publish(RunEvent.STEP_WARNING, null, "where", 6, null, 0));
+    }
+
+    @Test
+    public void clearsSlotsAfterDraining() {
+        EventRing ring = new EventRing(2);
+        ring.publish(RunEvent.STEP_WARNING, "sc-0001", "where", "message", null, 0);
+        List<EventRing.Slot> slots = new ArrayList<>();
+        ring.drain(slots::add);
+
+        assertNull(slots.get(0).event);
+        assertNull(slots.get(0).a);
+    }
+}
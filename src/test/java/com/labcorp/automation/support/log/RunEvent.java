@@ -0,0 +1,109 @@
+package com.labcorp.automation.support.log;
+
+/**
+ * Every kind of event the steps record, with its level and the names of its fields.
+ *
+ * An event carries up to three object fields and one numeric field; the names given here
+ * become the JSON keys, so call sites pass values only and never format strings.
+ */
+public enum RunEvent {
+
+    // Scenario lifecycle
+    SCENARIO_STARTED("scenario.started", Level.INFO, "name"),
+    SCENARIO_FINISHED("scenario.finished", Level.INFO, "name", "status", null, "durationMs"),
+
+    // Navigation and page state
+    TAB_SWITCHED("tab.switched", Level.INFO, "handle", "reason"),
+    PAGE_READY("page.ready", Level.DEBUG, "state", null, null, "elapsedMs"),
+    PAGE_READY_TIMEOUT("page.readyTimeout", Level.WARN, "state"),
+    RETURNED_TO_SEARCH("search.returned", Level.INFO, "url", "closedTab"),
+
+    // Element interaction
+    LOCATOR_RESOLVED("locator.resolved", Level.DEBUG, "target", "locator", "candidate", "elapsedMs"),
+    ELEMENT_CLICKED("element.clicked", Level.INFO, "target", "method"),
+    CONTENT_EXPANDED("content.expanded", Level.DEBUG, "label"),
+    CONTENT_NOT_EXPANDABLE("content.notExpandable", Level.DEBUG),
+    MODAL_CLOSED("modal.closed", Level.DEBUG, "method", "handle"),
+    MODAL_OVERLAY("modal.overlay", Level.DEBUG, "state"),
+    CONSENT_DISMISSED("consent.dismissed", Level.INFO, "button"),
+    CONSENT_ABSENT("consent.absent", Level.DEBUG),
+
+    // Job detail assertions
+    SEARCH_SCANNED("search.scanned", Level.INFO, "title", "match", "pages", "cards"),
+    JOB_FIELD("job.field", Level.INFO, "field", "value"),
+    TEXT_MATCH("text.match", Level.INFO, "label", "expected", "found"),
+    SKILL_MENTIONED("skill.mentioned", Level.INFO, "skill", null, null, "sentences"),
+    BATCH_JOB("batch.job", Level.INFO, "url", "title", "status", "elapsedMs"),
+    BATCH_FINISHED("batch.finished", Level.INFO, "filter", null, null, "jobs"),
+
+    // Application page
+    APPLY_RESPONSE("apply.response", Level.DEBUG, "url", "source", "contentLength", "status"),
+    APPLY_LOADED("apply.loaded", Level.INFO, "title", "url"),
+    APPLY_ERROR_PAGE("apply.errorPage", Level.WARN, "title", "url"),
+    APPLY_FIELD("apply.field", Level.INFO, "field", "value"),
+    APPLY_CHECK_SKIPPED("apply.checkSkipped", Level.WARN, "check", "reason"),
+    PREFETCH("apply.prefetch", Level.INFO, "mode", "outcome", "url"),
+
+    // HTTP validation
+    API_FETCHED("api.fetched", Level.INFO, "query", "baseUrl", "postings", "elapsedMs"),
+    API_VALIDATED("api.validated", Level.INFO, "postings"),
+    API_FIELD("api.field", Level.INFO, "title", "field", "value"),
+
+    // Browser startup
+    DRIVER_RESOLVED("driver.resolved", Level.INFO, "path", "source", null, "elapsedMs"),
+    DRIVER_CACHE_STALE("driver.cacheStale", Level.WARN, "path", "reason"),
+    STARTUP_TIMINGS("startup.timings", Level.INFO, "phases", null, null, "totalMs"),
+    POOL_WARMED("pool.warmed", Level.INFO, null, null, null, "browsers"),
+    POOL_EVICTED("pool.evicted", Level.WARN, "reason"),
+    GRID_STANDALONE_READY("grid.standaloneReady", Level.INFO, "url", null, null, "sessions"),
+    PROFILE_TEMPLATE_BUILT("profile.templateBuilt", Level.INFO, "dir", null, null, "elapsedMs"),
+    PROFILE_TEMPLATE_UNAVAILABLE("profile.templateUnavailable", Level.WARN, "reason"),
+
+    // Run setup and resource use
+    SHARD_SELECTED("shard.selected", Level.INFO, "shard", "estimate", "plan", "scenarios"),
+    NETWORK_USAGE("network.usage", Level.INFO, "requests", "blocked", "savedBytes", "bytes"),
+    REPLAY_RECORDED("replay.recorded", Level.INFO, "archive", null, null, "responses"),
+    REPLAY_SERVING("replay.serving", Level.INFO, "archive", "port", null, "responses"),
+
+    // Recovered problems
+    REPORT_WRITE_FAILED("report.writeFailed", Level.WARN, "path", "reason"),
+    HISTORY_UNREADABLE("history.unreadable", Level.WARN, "path", "reason"),
+    DEVTOOLS_UNAVAILABLE("devtools.unavailable", Level.WARN, "feature", "reason"),
+    STEP_WARNING("step.warning", Level.WARN, "where", "message");
+
+    /** Severity; events below {@code log.level} are discarded at the call site. */
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private final String eventName;
+    private final Level level;
+    private final String[] fields;
+    private final String numberField;
+
+    RunEvent(String eventName, Level level, String... fields) {
+        this(eventName, level, fields.length > 0 ? fields[0] : null, fields.length > 1 ? fields[1] : null,
+            fields.length > 2 ? fields[2] : null, null);
+    }
+
+    RunEvent(String eventName, Level level, String a, String b, String c, String numberField) {
+        this.eventName = eventName;
+        this.level = level;
+        this.fields = new String[] {a, b, c};
+        this.numberField = numberField;
+    }
+
+    public String eventName() {
+        return eventName;
+    }
+
+    public Level level() {
+        return level;
+    }
+
+    String field(int index) {
+        return fields[index];
+    }
+
+    String numberField() {
+        return numberField;
+    }
+}
@@ -0,0 +1,248 @@
+package com.labcorp.automation.support.log;
+
+import com.labcorp.automation.support.TestConfig;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured, asynchronous run log.
+ *
+ * Steps record typed {@link RunEvent}s; each is stamped with the current scenario's
+ * correlation id and placed in a preallocated {@link EventRing}. A background thread drains
+ * the ring every {@code log.flushMillis} (default 100) into {@code log.file} (default
+ * {@code target/run-log.jsonl}, or {@code target/run-log-shard-i.jsonl} for shard {@code i} so
+ * shards running side by side do not overwrite each other), one JSON object per line, and
+ * echoes events at or above {@code log.consoleLevel} (default INFO) to the console, prefixed
+ * with the correlation id so parallel scenarios stay readable.
+ *
+ * Events below {@code log.level} (default DEBUG) are rejected with a single comparison
+ * before anything is touched; {@code -Dlog.level=OFF} reduces logging to that check.
+ */
+public final class RunLog {
+
+    private static final int LEVEL = RunEvent.Level.valueOf(TestConfig.get("log.level", "DEBUG").toUpperCase()).ordinal();
+    private static final int CONSOLE_LEVEL = RunEvent.Level.valueOf(TestConfig.get("log.consoleLevel", "INFO").toUpperCase()).ordinal();
+    private static final long FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(TestConfig.getLong("log.flushMillis", 100));
+
+    private static final int CONSOLE_VALUE_LIMIT = 200;
+
+    private static final ThreadLocal<String> CORRELATION_ID = new ThreadLocal<>();
+    private static final AtomicInteger SCENARIOS = new AtomicInteger();
+    private static final EventRing RING = new EventRing(TestConfig.getInt("log.bufferSize", 8192));
+    private static final Flusher FLUSHER = LEVEL < RunEvent.Level.OFF.ordinal()
+        ? new Flusher(Path.of(TestConfig.get("log.file", defaultFile())))
+        : null;
+
+    private RunLog() {
+    }
+
+    // Shards are separate JVMs sharing target/; each one truncates only its own file
+    private static String defaultFile() {
+        return TestConfig.getInt("shard.count", 0) > 1
+            ? "target/run-log-shard-" + TestConfig.getInt("shard.index", 0) + ".jsonl"
+            : "target/run-log.jsonl";
+    }
+
+    public static boolean isEnabled(RunEvent event) {
+        return event.level().ordinal() >= LEVEL;
+    }
+
+    public static void record(RunEvent event) {
+        record(event, null, null, null, 0);
+    }
+
+    public static void record(RunEvent event, Object a) {
+        record(event, a, null, null, 0);
+    }
+
+    public static void record(RunEvent event, Object a, Object b) {
+        record(event, a, b, null, 0);
+    }
+
+    public static void record(RunEvent event, Object a, Object b, Object c) {
+        record(event, a, b, c, 0);
+    }
+
+    public static void record(RunEvent event, Object a, long number) {
+        record(event, a, null, null, number);
+    }
+
+    /**
+     * Records {@code event}. Field values are stringified on the flusher thread, so pass
+     * immutable values (strings, numbers, locators) rather than live page objects.
+     */
+    public static void record(RunEvent event, Object a, Object b, Object c, long number) {
+        if (event.level().ordinal() < LEVEL) {
+            return;
+        }
+        RING.publish(event, CORRELATION_ID.get(), a, b, c, number);
+    }
+
+    /** Starts a new correlation id for the scenario running on this thread. */
+    public static String beginScenario(String name) {
+        String id = String.format("sc-%04d", SCENARIOS.incrementAndGet());
+        CORRELATION_ID.set(id);
+        record(RunEvent.SCENARIO_STARTED, name);
+        return id;
+    }
+
+    public static void endScenario(String name, String status, long durationMillis) {
+        record(RunEvent.SCENARIO_FINISHED, name, status, null, durationMillis);
+        CORRELATION_ID.remove();
+    }
+
+    // ============================================================================
+    // FLUSHER
+    // ============================================================================
+
+    private static final class Flusher implements Runnable {
+
+        private final Path file;
+        private final StringBuilder line = new StringBuilder(256);
+        private BufferedWriter writer;
+        private volatile boolean running = true;
+        private final Thread thread;
+
+        Flusher(Path file) {
+            this.file = file;
+            this.thread = new Thread(this, "run-log-flusher");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "run-log-stop"));
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                flush();
+                LockSupport.parkNanos(FLUSH_NANOS);
+            }
+        }
+
+        private void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_NANOS) * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+            if (RING.dropped() > 0) {
+                System.out.println("Run log dropped " + RING.dropped() + " events (raise log.bufferSize)");
+            }
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // Nothing left to report it to
+                }
+            }
+        }
+
+        private synchronized void flush() {
+            if (RING.drain(this::write) > 0 && writer != null) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    System.out.println("Run log flush failed: " + e.getMessage());
+                }
+            }
+        }
+
+        private void write(EventRing.Slot slot) {
+            RunEvent event = slot.event;
+            String id = slot.correlationId != null ? slot.correlationId : "-";
+            if (event.level().ordinal() >= CONSOLE_LEVEL) {
+                System.out.println(console(slot, id));
+            }
+            line.setLength(0);
+            line.append("{\"ts\":\"").append(Instant.ofEpochMilli(slot.epochMillis)).append('"');
+            appendJson("id", id);
+            appendJson("thread", slot.thread);
+            appendJson("level", event.level().name());
+            appendJson("event", event.eventName());
+            Object[] values = {slot.a, slot.b, slot.c};
+            for (int i = 0; i < values.length; i++) {
+                if (event.field(i) != null && values[i] != null) {
+                    appendJson(event.field(i), String.valueOf(values[i]));
+                }
+            }
+            if (event.numberField() != null) {
+                line.append(",\"").append(event.numberField()).append("\":").append(slot.number);
+            }
+            line.append("}\n");
+            try {
+                if (writer == null) {
+                    if (file.getParent() != null) {
+                        Files.createDirectories(file.getParent());
+                    }
+                    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                }
+                writer.append(line);
+            } catch (IOException e) {
+                System.out.println("Run log write failed: " + e.getMessage());
+            }
+        }
+
+        private static String console(EventRing.Slot slot, String id) {
+            RunEvent event = slot.event;
+            StringBuilder out = new StringBuilder().append('[').append(id).append("] ").append(event.eventName());
+            Object[] values = {slot.a, slot.b, slot.c};
+            for (int i = 0; i < values.length; i++) {
+                if (event.field(i) != null && values[i] != null) {
+                    out.append(' ').append(event.field(i)).append('=').append(abbreviate(String.valueOf(values[i])));
+                }
+            }
+            if (event.numberField() != null) {
+                out.append(' ').append(event.numberField()).append('=').append(slot.number);
+            }
+            return out.toString();
+        }
+
+        // Console lines stay on one line and short; the JSON file keeps full values
+        private static String abbreviate(String value) {
+            String flat = value.replace('\n', ' ').replace('\r', ' ');
+            return flat.length() > CONSOLE_VALUE_LIMIT ? flat.substring(0, CONSOLE_VALUE_LIMIT) + "..." : flat;
+        }
+
+        private void appendJson(String key, String value) {
+            line.append(",\"").append(key).append("\":\"");
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                switch (ch) {
+                    case '"':
+                        line.append("\\\"");
+                        break;
+                    case '\\':
+                        line.append("\\\\");
+                        break;
+                    case '\n':
+                        line.append("\\n");
+                        break;
+                    case '\r':
+                        line.append("\\r");
+                        break;
+                    case '\t':
+                        line.append("\\t");
+                        break;
+                    default:
+                        if (ch < 0x20) {
+                            line.append(String.format("\\u%04x", (int) ch));
+                        } else {
+                            line.append(ch);
+                        }
+                }
+            }
+            line.append('"');
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.labcorp.automation.support.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Times every call made through an {@link org.openqa.selenium.support.events.EventFiringDecorator}
+ * -decorated driver (driver, element, navigation, window and options calls alike) and records
+ * it under {@code Interface.method}, e.g. {@code WebElement.click}.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Long start = starts.get().poll();
+        if (start != null) {
+            Metrics.record(Metrics.Kind.COMMAND,
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.labcorp.automation.support.metrics;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * {@link WebDriverWait} that records the time spent inside {@link #until}, including waits
+ * that end in a timeout, under the given name.
+ *
+ * Each {@link #until} call first runs with the budget {@link WaitBudgets} picks for the
+ * current step and this wait's name. When that budget is shorter than the timeout passed in
+ * and runs out, the wait carries on up to the declared timeout, so a slow day costs time but
+ * does not fail the step.
+ *
+ * Waits whose usual outcome is a timeout (probes for overlays that may not exist) are marked
+ * with {@link #expectsTimeout()}. A probe never waits past its declared timeout, and when its
+ * history says the condition is met sooner, it gives up at that shorter budget instead; its
+ * callers treat a timeout as "not there" already. Probe timeouts are not added to the history.
+ */
+public class InstrumentedWait extends WebDriverWait {
+
+    private final String name;
+    private final Duration declaredTimeout;
+    private boolean expectsTimeout;
+
+    public InstrumentedWait(WebDriver driver, Duration timeout, String name) {
+        super(driver, timeout);
+        this.name = name;
+        this.declaredTimeout = timeout;
+    }
+
+    /** Marks this wait as a probe that often times out; it gives up at its budget, at most the declared timeout. */
+    public InstrumentedWait expectsTimeout() {
+        this.expectsTimeout = true;
+        return this;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        String key = WaitBudgets.key(name);
+        Duration first = WaitBudgets.budget(key, declaredTimeout, expectsTimeout).timeout();
+        if (expectsTimeout) {
+            return Metrics.time(Metrics.Kind.WAIT, name, () -> {
+                long start = System.nanoTime();
+                try {
+                    V value = attempt(first, isTrue);
+                    WaitBudgets.recordSuccess(key, System.nanoTime() - start);
+                    return value;
+                } catch (TimeoutException e) {
+                    WaitBudgets.recordProbeTimeout(key);
+                    throw e;
+                }
+            });
+        }
+        return Metrics.time(Metrics.Kind.WAIT, name, () -> {
+            long start = System.nanoTime();
+            try {
+                V value = attempt(first, isTrue);
+                WaitBudgets.recordSuccess(key, System.nanoTime() - start);
+                return value;
+            } catch (TimeoutException e) {
+                if (first.compareTo(declaredTimeout) >= 0) {
+                    WaitBudgets.recordTimeout(key, declaredTimeout);
+                    throw e;
+                }
+            }
+            // The adaptive budget was too tight: fall back to the rest of the declared timeout
+            WaitBudgets.recordFallback(key);
+            try {
+                V value = attempt(declaredTimeout.minus(first), isTrue);
+                WaitBudgets.recordSuccess(key, System.nanoTime() - start);
+                return value;
+            } catch (TimeoutException e) {
+                WaitBudgets.recordTimeout(key, declaredTimeout);
+                throw e;
+            }
+        });
+    }
+
+    private <V> V attempt(Duration timeout, Function<? super WebDriver, V> isTrue) {
+        withTimeout(timeout);
+        return super.until(isTrue);
+    }
+}
@@ -0,0 +1,67 @@
+package com.labcorp.automation.support.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    // Sub-bucket resolution above the linear range
+    private static final double RELATIVE_ERROR = 1.0 / 64;
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentileMillis(99), 0);
+        assertEquals(0, histogram.count());
+    }
+
+    @Test
+    public void percentilesOfAUniformSpreadStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1_000; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        assertWithinError(500, histogram.percentileMillis(50));
+        assertWithinError(900, histogram.percentileMillis(90));
+        assertWithinError(990, histogram.percentileMillis(99));
+        assertEquals(1_000, histogram.percentileMillis(100), 0);
+        assertEquals(500.5, histogram.meanMillis(), 0.001);
+    }
+
+    @Test
+    public void percentileNeverExceedsTheLargestRecordedValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(1_234_567_000L);
+
+        assertEquals(1_234.567, histogram.percentileMillis(99.9), 0);
+        assertEquals(histogram.maxMillis(), histogram.percentileMillis(100), 0);
+    }
+
+    @Test
+    public void valuesBelowTheLinearLimitAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(5_000);
+        histogram.recordNanos(100_000);
+
+        assertEquals(0.005, histogram.percentileMillis(50), 0);
+        assertEquals(0.1, histogram.percentileMillis(100), 0);
+    }
+
+    @Test
+    public void bucketUpperBoundsCoverTheirValues() {
+        for (long micros : new long[] {0, 127, 128, 129, 1_000, 65_535, 65_536, 10_000_000_000L}) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(micros + " above its bucket bound", LatencyHistogram.upperBoundOf(index) >= micros);
+            assertTrue(micros + " in a later bucket than needed", index == 0 || LatencyHistogram.upperBoundOf(index - 1) < micros);
+        }
+    }
+
+    private static void assertWithinError(double expected, double actual) {
+        assertTrue("expected ~" + expected + " but was " + actual,
+            actual >= expected && actual <= expected * (1 + RELATIVE_ERROR));
+    }
+}
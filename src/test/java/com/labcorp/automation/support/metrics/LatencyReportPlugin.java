@@ -0,0 +1,149 @@
+package com.labcorp.automation.support.metrics;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cucumber plugin that records per-step and per-scenario durations and, when the run
+ * finishes, exports every {@link Metrics} histogram (steps, scenarios, WebDriver commands,
+ * waits) to {@code target/metrics/latency.json} and {@code target/metrics/latency.prom}.
+ * The JSON report also lists the wait budgets chosen by {@link WaitBudgets}, and the plugin
+ * tells them which step each wait belongs to. Nothing here is needed to keep history: wait
+ * and page load history are saved by glue hooks, and scenario durations for sharding only by
+ * {@code ShardReportMerger}.
+ *
+ * Register it in {@code @CucumberOptions(plugin = ...)}; an output directory can be given as
+ * {@code com.labcorp.automation.support.metrics.LatencyReportPlugin:some/dir}.
+ */
+public class LatencyReportPlugin implements ConcurrentEventListener {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final Path outputDir;
+
+    public LatencyReportPlugin() {
+        this("target/metrics");
+    }
+
+    public LatencyReportPlugin(String outputDir) {
+        this.outputDir = Path.of(outputDir);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> export());
+    }
+
+    // Concurrent listeners are notified on the thread running the step
+    private void onStepStarted(TestStepStarted event) {
+        WaitBudgets.enterStep(stepName(event.getTestStep()));
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        Metrics.record(Metrics.Kind.STEP, stepName(event.getTestStep()), event.getResult().getDuration().toNanos());
+    }
+
+    private static String stepName(TestStep step) {
+        if (step instanceof PickleStepTestStep) {
+            return ((PickleStepTestStep) step).getPattern();
+        } else if (step instanceof HookTestStep) {
+            return "@" + ((HookTestStep) step).getHookType() + " " + step.getCodeLocation();
+        }
+        return step.getCodeLocation();
+    }
+
+    private void onCaseFinished(TestCaseFinished event) {
+        Metrics.record(Metrics.Kind.SCENARIO, event.getTestCase().getName(), event.getResult().getDuration().toNanos());
+    }
+
+    // ============================================================================
+    // EXPORT
+    // ============================================================================
+
+    private void export() {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(outputDir);
+            Files.writeString(outputDir.resolve("latency.json"), toJson(), StandardCharsets.UTF_8);
+            Files.writeString(outputDir.resolve("latency.prom"), toPrometheus(), StandardCharsets.UTF_8);
+            System.out.println("Latency metrics written to " + outputDir.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write latency metrics to " + outputDir, e);
+        }
+    }
+
+    private String toJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Metrics.Kind kind : Metrics.Kind.values()) {
+            Map<String, Object> byName = new LinkedHashMap<>();
+            Metrics.snapshot(kind).forEach((name, histogram) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("count", histogram.count());
+                entry.put("sumMs", histogram.sumMillis());
+                entry.put("meanMs", histogram.meanMillis());
+                for (double p : PERCENTILES) {
+                    entry.put("p" + (int) p + "Ms", histogram.percentileMillis(p));
+                }
+                entry.put("maxMs", histogram.maxMillis());
+                entry.put("buckets", histogram.nonEmptyBuckets());
+                byName.put(name, entry);
+            });
+            report.put(kind.label(), byName);
+        }
+        report.put("waitBudgets", WaitBudgets.report());
+        return new Json().toJson(report);
+    }
+
+    private String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        for (Metrics.Kind kind : Metrics.Kind.values()) {
+            Map<String, LatencyHistogram> histograms = Metrics.snapshot(kind);
+            if (histograms.isEmpty()) {
+                continue;
+            }
+            String metric = kind.metricName();
+            out.append("# TYPE ").append(metric).append(" summary\n");
+            histograms.forEach((name, histogram) -> {
+                String label = kind.label() + "=\"" + escape(name) + "\"";
+                for (double p : PERCENTILES) {
+                    out.append(metric).append('{').append(label)
+                        .append(",quantile=\"").append(p / 100).append("\"} ")
+                        .append(seconds(histogram.percentileMillis(p))).append('\n');
+                }
+                out.append(metric).append("_sum{").append(label).append("} ").append(seconds(histogram.sumMillis())).append('\n');
+                out.append(metric).append("_count{").append(label).append("} ").append(histogram.count()).append('\n');
+            });
+        }
+        return out.toString();
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.6f", millis / 1_000.0);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,77 @@
+package com.labcorp.automation.support.metrics;
+
+import com.labcorp.automation.support.TestConfig;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JVM-wide latency registry shared by every scenario thread.
+ *
+ * Histograms are keyed by kind and name; {@link LatencyReportPlugin} exports them when the
+ * run finishes. Collection can be switched off with {@code -Dmetrics.enabled=false}.
+ */
+public final class Metrics {
+
+    public enum Kind {
+        STEP("labcorp_step_duration_seconds", "step"),
+        SCENARIO("labcorp_scenario_duration_seconds", "scenario"),
+        COMMAND("labcorp_webdriver_command_duration_seconds", "command"),
+        WAIT("labcorp_wait_duration_seconds", "wait"),
+        STARTUP("labcorp_startup_phase_duration_seconds", "phase"),
+        PAGE_LOAD("labcorp_page_load_duration_seconds", "page");
+
+        private final String metricName;
+        private final String label;
+
+        Kind(String metricName, String label) {
+            this.metricName = metricName;
+            this.label = label;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private static final boolean ENABLED = TestConfig.getBoolean("metrics.enabled", true);
+    private static final Map<Kind, Map<String, LatencyHistogram>> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void record(Kind kind, String name, long nanos) {
+        if (ENABLED) {
+            histogram(kind, name).recordNanos(nanos);
+        }
+    }
+
+    public static <T> T time(Kind kind, String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(kind, name, System.nanoTime() - start);
+        }
+    }
+
+    public static LatencyHistogram histogram(Kind kind, String name) {
+        return HISTOGRAMS.computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /** Sorted copy of the histograms of one kind, for reporting. */
+    public static Map<String, LatencyHistogram> snapshot(Kind kind) {
+        return new TreeMap<>(HISTOGRAMS.getOrDefault(kind, Map.of()));
+    }
+}
@@ -0,0 +1,265 @@
+package com.labcorp.automation.support.metrics;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Browser-side load timings of every page a scenario visits.
+ *
+ * {@link #capture} reads the current document's Navigation Timing entry, its paint entries and
+ * a summary of its Resource Timing entries in one script, and files them under the running
+ * scenario. Capturing the same document again updates its entry, so a page captured before
+ * its load event finished is completed by the next capture. Load times are also recorded as
+ * {@link Metrics.Kind#PAGE_LOAD} histograms.
+ *
+ * When the run finishes, {@link LatencyReportPlugin} writes every scenario's timings to
+ * {@code page-performance.json} and appends per-page medians to the trend file
+ * ({@code -Dperf.trendFile}, default {@code history/page-performance-trend.jsonl}),
+ * printing the change against the previous run.
+ */
+public final class PagePerformance {
+
+    /** Timings of one document, in milliseconds from navigation start; 0 when not reached yet. */
+    public record PageTiming(String page, String url, double timeOrigin, long ttfbMs, long domContentLoadedMs,
+                             long loadMs, long firstPaintMs, long firstContentfulPaintMs,
+                             long resources, long transferBytes, String slowestResource, long slowestResourceMs) {
+
+        public boolean isLoaded() {
+            return loadMs > 0;
+        }
+
+        boolean isSameDocument(PageTiming other) {
+            return timeOrigin == other.timeOrigin && url.equals(other.url);
+        }
+
+        PageTiming withPage(String label) {
+            return new PageTiming(label, url, timeOrigin, ttfbMs, domContentLoadedMs, loadMs, firstPaintMs,
+                firstContentfulPaintMs, resources, transferBytes, slowestResource, slowestResourceMs);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("page", page);
+            map.put("url", url);
+            map.put("ttfbMs", ttfbMs);
+            map.put("domContentLoadedMs", domContentLoadedMs);
+            map.put("loadMs", loadMs);
+            map.put("firstPaintMs", firstPaintMs);
+            map.put("firstContentfulPaintMs", firstContentfulPaintMs);
+            map.put("resources", resources);
+            map.put("transferBytes", transferBytes);
+            map.put("slowestResource", slowestResource);
+            map.put("slowestResourceMs", slowestResourceMs);
+            return map;
+        }
+    }
+
+    private static final String TIMING_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "if (!nav) return null;" +
+        "var paint = {};" +
+        "performance.getEntriesByType('paint').forEach(function (p) { paint[p.name] = p.startTime; });" +
+        "var resources = performance.getEntriesByType('resource'), bytes = nav.transferSize || 0, slowest = null;" +
+        "resources.forEach(function (r) {" +
+        "  bytes += r.transferSize || 0;" +
+        "  if (!slowest || r.duration > slowest.duration) slowest = r;" +
+        "});" +
+        "return { origin: performance.timeOrigin, url: nav.name," +
+        "  ttfb: Math.round(nav.responseStart), dcl: Math.round(nav.domContentLoadedEventEnd)," +
+        "  load: Math.round(nav.loadEventEnd)," +
+        "  fp: Math.round(paint['first-paint'] || 0), fcp: Math.round(paint['first-contentful-paint'] || 0)," +
+        "  resources: resources.length, bytes: bytes," +
+        "  slowest: slowest ? slowest.name : null, slowestMs: slowest ? Math.round(slowest.duration) : 0 };";
+
+    private static final Json JSON = new Json();
+    private static final Path TREND = Path.of(TestConfig.get("perf.trendFile", "history/page-performance-trend.jsonl"));
+
+    private static final ThreadLocal<String> SCENARIO = ThreadLocal.withInitial(() -> "(no scenario)");
+    private static final ThreadLocal<List<PageTiming>> CURRENT = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, List<PageTiming>> BY_SCENARIO = new ConcurrentHashMap<>();
+
+    private PagePerformance() {
+    }
+
+    public static void beginScenario(String name) {
+        SCENARIO.set(name);
+        CURRENT.set(new ArrayList<>());
+    }
+
+    public static void endScenario() {
+        List<PageTiming> timings = CURRENT.get();
+        if (!timings.isEmpty()) {
+            BY_SCENARIO.computeIfAbsent(SCENARIO.get(), k -> Collections.synchronizedList(new ArrayList<>())).addAll(timings);
+        }
+        SCENARIO.remove();
+        CURRENT.remove();
+    }
+
+    /**
+     * Captures the current document under {@code page}, or under its earlier label when it was
+     * already captured. Never fails the scenario: returns {@code null} if the page has no
+     * timing entry or the browser cannot be reached.
+     */
+    public static PageTiming capture(WebDriver driver, String page) {
+        Map<?, ?> raw;
+        try {
+            raw = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+        } catch (WebDriverException e) {
+            return null;
+        }
+        if (raw == null) {
+            return null;
+        }
+        PageTiming timing = new PageTiming(page, String.valueOf(raw.get("url")), number(raw, "origin").doubleValue(),
+            number(raw, "ttfb").longValue(), number(raw, "dcl").longValue(), number(raw, "load").longValue(),
+            number(raw, "fp").longValue(), number(raw, "fcp").longValue(),
+            number(raw, "resources").longValue(), number(raw, "bytes").longValue(),
+            (String) raw.get("slowest"), number(raw, "slowestMs").longValue());
+
+        List<PageTiming> timings = CURRENT.get();
+        PageTiming previous = timings.isEmpty() ? null : timings.get(timings.size() - 1);
+        if (previous != null && previous.isSameDocument(timing)) {
+            timing = timing.withPage(previous.page());
+            timings.set(timings.size() - 1, timing);
+        } else {
+            previous = null;
+            timings.add(timing);
+        }
+        // Once per document, when its load time is first known
+        if (timing.isLoaded() && (previous == null || !previous.isLoaded())) {
+            Metrics.record(Metrics.Kind.PAGE_LOAD, timing.page(), timing.loadMs() * 1_000_000);
+        }
+        return timing;
+    }
+
+    /** Captures the current document once its load event has finished, failing after {@code timeout}. */
+    public static PageTiming awaitLoaded(WebDriver driver, String page, Duration timeout) {
+        try {
+            return new InstrumentedWait(driver, timeout, "page-load-event").until(d -> {
+                PageTiming timing = capture(d, page);
+                return timing != null && timing.isLoaded() ? timing : null;
+            });
+        } catch (TimeoutException e) {
+            throw new AssertionError("Page " + driver.getCurrentUrl() + " did not finish loading within "
+                + timeout.toSeconds() + " s");
+        }
+    }
+
+    private static Number number(Map<?, ?> raw, String key) {
+        Object value = raw.get(key);
+        return value instanceof Number ? (Number) value : 0;
+    }
+
+    // ============================================================================
+    // EXPORT
+    // ============================================================================
+
+    /** Writes this run's timings to {@code outputDir} and appends its medians to the trend file. */
+    public static void save(Path outputDir) {
+        if (BY_SCENARIO.isEmpty()) {
+            return;
+        }
+        Map<String, Object> byScenario = new TreeMap<>();
+        Map<String, List<PageTiming>> byPage = new TreeMap<>();
+        BY_SCENARIO.forEach((scenario, timings) -> {
+            List<Object> rows = new ArrayList<>();
+            synchronized (timings) {
+                for (PageTiming timing : timings) {
+                    rows.add(timing.toMap());
+                    byPage.computeIfAbsent(timing.page(), k -> new ArrayList<>()).add(timing);
+                }
+            }
+            byScenario.put(scenario, rows);
+        });
+
+        Map<String, Object> pages = new TreeMap<>();
+        byPage.forEach((page, timings) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", timings.size());
+            summary.put("ttfbP50Ms", median(timings, PageTiming::ttfbMs));
+            summary.put("fcpP50Ms", median(timings, PageTiming::firstContentfulPaintMs));
+            summary.put("loadP50Ms", median(timings, PageTiming::loadMs));
+            summary.put("loadMaxMs", timings.stream().mapToLong(PageTiming::loadMs).max().orElse(0));
+            pages.put(page, summary);
+        });
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("run", Instant.now().toString());
+        run.put("pages", pages);
+
+        try {
+            Files.createDirectories(outputDir);
+            Files.writeString(outputDir.resolve("page-performance.json"), JSON.toJson(byScenario), StandardCharsets.UTF_8);
+            Map<String, Object> previousRun = lastTrendEntry();
+            if (TREND.getParent() != null) {
+                Files.createDirectories(TREND.getParent());
+            }
+            Files.writeString(TREND, JSON.toJson(run).replace("\n", "") + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            printTrend(pages, previousRun);
+        } catch (IOException e) {
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, outputDir, e.getMessage());
+        }
+    }
+
+    // Medians over loaded pages only; unfinished captures would drag them to 0
+    private static long median(List<PageTiming> timings, ToLongFunction<PageTiming> metric) {
+        long[] values = timings.stream().mapToLong(metric).filter(v -> v > 0).sorted().toArray();
+        return values.length == 0 ? 0 : values[(values.length - 1) / 2];
+    }
+
+    private static Map<String, Object> lastTrendEntry() throws IOException {
+        if (!Files.isRegularFile(TREND)) {
+            return Map.of();
+        }
+        List<String> lines = Files.readAllLines(TREND, StandardCharsets.UTF_8);
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            if (!lines.get(i).isBlank()) {
+                try {
+                    return JSON.toType(lines.get(i), Json.MAP_TYPE);
+                } catch (RuntimeException e) {
+                    return Map.of();
+                }
+            }
+        }
+        return Map.of();
+    }
+
+    private static void printTrend(Map<String, Object> pages, Map<String, Object> previousRun) {
+        Object previousPages = previousRun.get("pages");
+        StringBuilder out = new StringBuilder("Page load p50:");
+        pages.forEach((page, summary) -> {
+            long load = ((Number) ((Map<?, ?>) summary).get("loadP50Ms")).longValue();
+            out.append(' ').append(page).append(' ').append(load).append(" ms");
+            if (previousPages instanceof Map && ((Map<?, ?>) previousPages).get(page) instanceof Map) {
+                Object before = ((Map<?, ?>) ((Map<?, ?>) previousPages).get(page)).get("loadP50Ms");
+                if (before instanceof Number) {
+                    out.append(String.format(" (%+d ms)", load - ((Number) before).longValue()));
+                }
+            }
+            out.append(';');
+        });
+        System.out.println(out.substring(0, out.length() - 1));
+    }
+}
@@ -0,0 +1,223 @@
+package com.labcorp.automation.support.metrics;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * History-driven timeouts for {@link InstrumentedWait}.
+ *
+ * Every wait is keyed by the step it runs in plus the wait's own name. Wait durations are
+ * collected during the run (a timeout counts as a sample at the declared timeout, never at a
+ * longer budget, so repeated timeouts cannot ratchet the budget up; probe timeouts are not
+ * collected at all) and, when it finishes, appended to
+ * {@code wait.history} (default {@code history/wait-history.json}). Once a key has
+ * {@code wait.adaptive.minSamples} recorded durations, its budget becomes the
+ * {@code wait.adaptive.percentile} of that history times {@code wait.adaptive.headroom},
+ * clamped to {@code wait.adaptive.minMillis} and {@code wait.adaptive.maxSeconds}. Keys
+ * without enough history keep the timeout written in the code. A budget shorter than the
+ * code's timeout is only a first attempt: {@link InstrumentedWait} falls back to the full
+ * timeout when it runs out, and counts that as a fallback in the report. Probes marked with
+ * {@link InstrumentedWait#expectsTimeout()} are capped at the code's timeout and give up at a
+ * shorter budget without falling back.
+ *
+ * Budgets are computed from the history loaded at startup so they stay fixed for the whole
+ * run; the ones actually used are exported by {@link LatencyReportPlugin}. Disable with
+ * {@code -Dwait.adaptive=false}.
+ */
+public final class WaitBudgets {
+
+    private static final Json JSON = new Json();
+    private static final Type HISTORY_TYPE = new TypeToken<Map<String, List<Long>>>() { }.getType();
+
+    private static final boolean ENABLED = TestConfig.getBoolean("wait.adaptive", true);
+    private static final Path HISTORY = Path.of(TestConfig.get("wait.history", "history/wait-history.json"));
+    private static final double PERCENTILE = Double.parseDouble(TestConfig.get("wait.adaptive.percentile", "99"));
+    private static final double HEADROOM = Double.parseDouble(TestConfig.get("wait.adaptive.headroom", "1.5"));
+    private static final int MIN_SAMPLES = TestConfig.getInt("wait.adaptive.minSamples", 10);
+    private static final long MIN_MILLIS = TestConfig.getLong("wait.adaptive.minMillis", 1_000);
+    private static final long MAX_MILLIS = TestConfig.getLong("wait.adaptive.maxSeconds", 60) * 1_000;
+    // Samples kept per key, newest last, so old runs age out
+    private static final int MAX_HISTORY = 500;
+
+    private static final ThreadLocal<String> CURRENT_STEP = ThreadLocal.withInitial(() -> "(no step)");
+    private static final Map<String, List<Long>> PAST = load();
+    private static final Map<String, List<Long>> OBSERVED = new ConcurrentHashMap<>();
+    private static final Map<String, Budget> CHOSEN = new ConcurrentHashMap<>();
+
+    /** The timeout picked for one key, and what it was based on. */
+    public static final class Budget {
+        private final long millis;
+        private final long defaultMillis;
+        private final int samples;
+        private final long percentileMillis;
+        private final AtomicLong uses = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong fallbacks = new AtomicLong();
+
+        private Budget(long millis, long defaultMillis, int samples, long percentileMillis) {
+            this.millis = millis;
+            this.defaultMillis = defaultMillis;
+            this.samples = samples;
+            this.percentileMillis = percentileMillis;
+        }
+
+        public Duration timeout() {
+            return Duration.ofMillis(millis);
+        }
+
+        public boolean isAdaptive() {
+            return samples >= MIN_SAMPLES;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("budgetMs", millis);
+            entry.put("defaultMs", defaultMillis);
+            entry.put("source", isAdaptive() ? "history" : "default");
+            entry.put("historySamples", samples);
+            entry.put("p" + (int) PERCENTILE + "Ms", percentileMillis);
+            entry.put("uses", uses.get());
+            entry.put("fallbacks", fallbacks.get());
+            entry.put("timeouts", timeouts.get());
+            return entry;
+        }
+    }
+
+    private WaitBudgets() {
+    }
+
+    /** Called by {@link LatencyReportPlugin} as each step starts on this thread. */
+    static void enterStep(String step) {
+        CURRENT_STEP.set(step);
+    }
+
+    static String key(String waitName) {
+        return CURRENT_STEP.get() + " :: " + waitName;
+    }
+
+    /**
+     * The budget for {@code key}, falling back to {@code declared} until there is enough
+     * history. A probe's budget is never longer than {@code declared}.
+     */
+    static Budget budget(String key, Duration declared, boolean probe) {
+        Budget budget = CHOSEN.computeIfAbsent(key, k ->
+            choose(ENABLED ? PAST.getOrDefault(k, List.of()) : List.of(), declared.toMillis(), probe));
+        budget.uses.incrementAndGet();
+        return budget;
+    }
+
+    static void recordSuccess(String key, long nanos) {
+        OBSERVED.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+            .add(Math.max(1, nanos / 1_000_000));
+    }
+
+    /**
+     * A wait that gave up at its {@code declared} timeout. Recorded as a sample at that value
+     * so the history is not fitted to successes only and budgets for flaky waits grow, but
+     * only up to {@code declared} times the headroom.
+     */
+    static void recordTimeout(String key, Duration declared) {
+        recordSuccess(key, declared.toNanos());
+        countTimeout(key);
+    }
+
+    /** A probe that gave up; counted in the report but kept out of the history. */
+    static void recordProbeTimeout(String key) {
+        countTimeout(key);
+    }
+
+    private static void countTimeout(String key) {
+        Budget budget = CHOSEN.get(key);
+        if (budget != null) {
+            budget.timeouts.incrementAndGet();
+        }
+    }
+
+    /** The adaptive budget ran out and the wait continued up to its declared timeout. */
+    static void recordFallback(String key) {
+        Budget budget = CHOSEN.get(key);
+        if (budget != null) {
+            budget.fallbacks.incrementAndGet();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static Budget choose(List<Long> history, long declaredMillis, boolean probe) {
+        if (history.size() < MIN_SAMPLES) {
+            return new Budget(declaredMillis, declaredMillis, history.size(), -1);
+        }
+        List<Long> sorted = new ArrayList<>(history);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(PERCENTILE / 100.0 * sorted.size()) - 1;
+        long percentile = sorted.get(Math.max(0, Math.min(rank, sorted.size() - 1)));
+        long millis = Math.max(MIN_MILLIS, Math.min(MAX_MILLIS, (long) Math.ceil(percentile * HEADROOM)));
+        if (probe) {
+            millis = Math.min(millis, declaredMillis);
+        }
+        return new Budget(millis, declaredMillis, history.size(), percentile);
+    }
+
+    /** Budgets used in this run, sorted by key, for the run report. */
+    static Map<String, Object> report() {
+        Map<String, Object> report = new TreeMap<>();
+        CHOSEN.forEach((key, budget) -> report.put(key, budget.toMap()));
+        return report;
+    }
+
+    /** Appends this run's successful wait durations to the history file. */
+    public static void save() {
+        if (OBSERVED.isEmpty()) {
+            return;
+        }
+        Map<String, List<Long>> merged = new TreeMap<>(PAST);
+        OBSERVED.forEach((key, samples) -> {
+            List<Long> combined = new ArrayList<>(merged.getOrDefault(key, List.of()));
+            synchronized (samples) {
+                combined.addAll(samples);
+            }
+            merged.put(key, combined.subList(Math.max(0, combined.size() - MAX_HISTORY), combined.size()));
+        });
+        try {
+            if (HISTORY.getParent() != null) {
+                Files.createDirectories(HISTORY.getParent());
+            }
+            Files.writeString(HISTORY, JSON.toJson(merged), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, HISTORY, e.getMessage());
+        }
+    }
+
+    private static Map<String, List<Long>> load() {
+        if (!Files.isRegularFile(HISTORY)) {
+            return Map.of();
+        }
+        try {
+            Map<String, List<Long>> history = JSON.toType(Files.readString(HISTORY, StandardCharsets.UTF_8), HISTORY_TYPE);
+            return history != null ? history : Map.of();
+        } catch (IOException | RuntimeException e) {
+            RunLog.record(RunEvent.HISTORY_UNREADABLE, HISTORY, e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.labcorp.automation.support.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WaitBudgetsTest {
+
+    private static final long DECLARED = 3_000;
+
+    @Test
+    public void keepsDeclaredTimeoutUntilThereIsEnoughHistory() {
+        WaitBudgets.Budget budget = WaitBudgets.choose(List.of(100L, 120L), DECLARED, false);
+
+        assertEquals(DECLARED, budget.timeout().toMillis());
+        assertFalse(budget.isAdaptive());
+    }
+
+    @Test
+    public void probeNeverWaitsPastDeclaredTimeout() {
+        // History written before probe timeouts were kept out of it
+        List<Long> history = Collections.nCopies(20, 4_500L);
+
+        assertEquals(DECLARED, WaitBudgets.choose(history, DECLARED, true).timeout().toMillis());
+    }
+
+    @Test
+    public void probeBudgetShrinksWhenTheConditionIsUsuallyMetSooner() {
+        WaitBudgets.Budget budget = WaitBudgets.choose(Collections.nCopies(20, 100L), DECLARED, true);
+
+        assertTrue(budget.isAdaptive());
+        assertTrue(budget.timeout().toMillis() < DECLARED);
+    }
+
+    @Test
+    public void repeatedTimeoutsDoNotRatchetTheBudget() {
+        // Every run times out every wait; timeouts are recorded at the declared timeout
+        List<Long> history = new ArrayList<>();
+        List<Long> budgets = new ArrayList<>();
+        for (int run = 0; run < 10; run++) {
+            budgets.add(WaitBudgets.choose(history, DECLARED, false).timeout().toMillis());
+            history.addAll(Collections.nCopies(10, DECLARED));
+        }
+
+        assertEquals(budgets.get(1), budgets.get(budgets.size() - 1));
+    }
+}
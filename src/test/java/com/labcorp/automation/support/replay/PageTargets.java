@@ -0,0 +1,102 @@
+package com.labcorp.automation.support.replay;
+
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v117.runtime.Runtime;
+import org.openqa.selenium.devtools.v117.target.Target;
+import org.openqa.selenium.devtools.v117.target.model.TargetID;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * A DevTools connection of its own for every tab of a session, including tabs opened later.
+ *
+ * Selenium's DevTools session follows only the tab it was created on, so the Workday
+ * application tab would go unseen. A browser-level connection auto-attaches to new page
+ * targets and holds them paused; each one gets its own connection, is handed to the
+ * {@code onTab} callback (which enables the domains it needs), and is only then released, so
+ * not even the tab's first request slips past.
+ */
+final class PageTargets implements AutoCloseable {
+
+    static final Duration ATTACH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebDriver driver;
+    private final String feature;
+    private final BiConsumer<Connection, SessionID> onTab;
+    private final Connection browser;
+    private final List<Connection> tabs = new CopyOnWriteArrayList<>();
+    private final Set<String> targets = ConcurrentHashMap.newKeySet();
+
+    private PageTargets(WebDriver driver, String feature, BiConsumer<Connection, SessionID> onTab, Connection browser) {
+        this.driver = driver;
+        this.feature = feature;
+        this.onTab = onTab;
+        this.browser = browser;
+    }
+
+    /**
+     * Attaches to the session's current tab and every tab opened after it.
+     *
+     * @param feature what the connections are for, used in log events
+     */
+    static PageTargets open(WebDriver driver, String feature, BiConsumer<Connection, SessionID> onTab) {
+        Connection browser = SeleniumCdpConnection.create(driver)
+            .orElseThrow(() -> new IllegalStateException(feature + " needs a DevTools connection to the browser"));
+        PageTargets pages = new PageTargets(driver, feature, onTab, browser);
+        try {
+            browser.addListener(Target.attachedToTarget(), e -> {
+                try {
+                    if ("page".equals(e.getTargetInfo().getType())) {
+                        pages.attach(e.getTargetInfo().getTargetId());
+                    }
+                } catch (RuntimeException failure) {
+                    RunLog.record(RunEvent.DEVTOOLS_UNAVAILABLE, feature + " " + e.getTargetInfo().getUrl(), failure.getMessage());
+                } finally {
+                    // The tab stays paused until released, attached or not
+                    if (Boolean.TRUE.equals(e.getWaitingForDebugger())) {
+                        browser.send(new SessionID(e.getSessionId().toString()), Runtime.runIfWaitingForDebugger());
+                    }
+                }
+            });
+            browser.sendAndWait(null, Target.setAutoAttach(true, true, Optional.of(true), Optional.empty()), ATTACH_TIMEOUT);
+            pages.attach(new TargetID(driver.getWindowHandle()));
+            return pages;
+        } catch (RuntimeException e) {
+            pages.close();
+            throw e;
+        }
+    }
+
+    private void attach(TargetID target) {
+        // Auto-attach also reports tabs that were already open
+        if (!targets.add(target.toString())) {
+            return;
+        }
+        Connection tab = SeleniumCdpConnection.create(driver)
+            .orElseThrow(() -> new IllegalStateException(feature + " has no DevTools connection for tab " + target));
+        tabs.add(tab);
+        SessionID session = new SessionID(
+            tab.sendAndWait(null, Target.attachToTarget(target, Optional.of(true)), ATTACH_TIMEOUT).toString());
+        onTab.accept(tab, session);
+    }
+
+    @Override
+    public void close() {
+        for (Connection tab : tabs) {
+            tab.close();
+        }
+        browser.close();
+    }
+}
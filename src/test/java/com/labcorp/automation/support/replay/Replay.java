@@ -0,0 +1,102 @@
+package com.labcorp.automation.support.replay;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+
+/**
+ * Offline record-and-replay of the pages a scenario touches.
+ *
+ * Selected with {@code -Dreplay.mode=record|replay} (default {@code off}); the archive lives
+ * in {@code -Dreplay.archive} (default {@code target/replay/labcorp}; copy it somewhere tracked
+ * to keep it past {@code mvn clean}).
+ *
+ * <ul>
+ *   <li><b>record</b> - the scenario runs against the live site and a {@link ReplayRecorder}
+ *       copies every response the browser receives, in every tab, into the archive.</li>
+ *   <li><b>replay</b> - an in-process {@link ReplayServer} serves the archive, and a
+ *       {@link ReplayInterceptor} answers every request of every tab from that server, so the
+ *       unchanged Gherkin (including {@code https://www.labcorp.com}) runs without network
+ *       access and with repeatable timing.</li>
+ * </ul>
+ */
+public final class Replay {
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static final ThreadLocal<ReplayInterceptor> INTERCEPTOR = new ThreadLocal<>();
+    private static final ThreadLocal<ReplayRecorder> RECORDER = new ThreadLocal<>();
+    private static volatile ReplayArchive archive;
+    private static volatile ReplayServer server;
+
+    private Replay() {
+    }
+
+    public static Mode mode() {
+        return Mode.valueOf(TestConfig.get("replay.mode", "off").toUpperCase());
+    }
+
+    /** Wires the driver for the configured mode; must run before the first navigation. */
+    public static void attach(WebDriver driver) {
+        if (mode() == Mode.RECORD) {
+            RECORDER.set(ReplayRecorder.start(driver, archive()));
+            return;
+        }
+        if (mode() != Mode.REPLAY) {
+            return;
+        }
+        INTERCEPTOR.set(ReplayInterceptor.start(driver, server()));
+    }
+
+    public static void detach() {
+        ReplayRecorder recorder = RECORDER.get();
+        RECORDER.remove();
+        if (recorder != null) {
+            recorder.close();
+            RunLog.record(RunEvent.REPLAY_RECORDED, archive().root(), recorder.recorded());
+        }
+        ReplayInterceptor interceptor = INTERCEPTOR.get();
+        INTERCEPTOR.remove();
+        if (interceptor != null) {
+            interceptor.close();
+        }
+    }
+
+    // ============================================================================
+    // SHARED STATE
+    // ============================================================================
+
+    private static ReplayArchive archive() {
+        if (archive == null) {
+            synchronized (Replay.class) {
+                if (archive == null) {
+                    archive = ReplayArchive.open(Path.of(TestConfig.get("replay.archive", "target/replay/labcorp")));
+                }
+            }
+        }
+        return archive;
+    }
+
+    private static ReplayServer server() {
+        if (server == null) {
+            synchronized (Replay.class) {
+                if (server == null) {
+                    ReplayArchive replayArchive = archive();
+                    if (replayArchive.size() == 0) {
+                        throw new IllegalStateException("Replay archive " + replayArchive.root()
+                            + " is empty; run once with -Dreplay.mode=record first");
+                    }
+                    ReplayServer started = ReplayServer.start(replayArchive);
+                    Runtime.getRuntime().addShutdownHook(new Thread(started::close, "replay-server-shutdown"));
+                    RunLog.record(RunEvent.REPLAY_SERVING, replayArchive.root(), started.port(), null, replayArchive.size());
+                    server = started;
+                }
+            }
+        }
+        return server;
+    }
+}
@@ -0,0 +1,165 @@
+package com.labcorp.automation.support.replay;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk store of recorded HTTP responses.
+ *
+ * Layout: {@code index.jsonl} holds one line per request ({@code method}, {@code url},
+ * {@code requestBody}, {@code status}, {@code contentType}, {@code body}) and {@code bodies/}
+ * holds the raw response bytes, named by the SHA-256 of the request key. GET and HEAD requests
+ * are keyed by URL alone; any other method also by the SHA-256 of its request body, so
+ * different POSTs to one endpoint replay their own responses. The index is append-only so
+ * parallel recorders never rewrite each other's entries; the last line for a key wins when
+ * loading.
+ */
+public final class ReplayArchive {
+
+    public record Entry(String method, String url, String requestBody, int status, String contentType, String body) {
+
+        String key() {
+            return ReplayArchive.key(method, url, requestBody);
+        }
+    }
+
+    private static final Json JSON = new Json();
+
+    private final Path root;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private ReplayArchive(Path root) {
+        this.root = root;
+    }
+
+    public static ReplayArchive open(Path root) {
+        ReplayArchive archive = new ReplayArchive(root);
+        archive.load();
+        return archive;
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Optional<Entry> find(String method, String url, byte[] requestBody) {
+        return Optional.ofNullable(entries.get(key(method, normalize(url), requestHash(method, requestBody))));
+    }
+
+    public byte[] readBody(Entry entry) {
+        try {
+            return Files.readAllBytes(root.resolve("bodies").resolve(entry.body()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing recorded body for " + entry.url(), e);
+        }
+    }
+
+    public synchronized void store(String method, String url, byte[] requestBody, int status, String contentType, byte[] body) {
+        String normalized = normalize(url);
+        String requestHash = requestHash(method, requestBody);
+        Entry entry = new Entry(method, normalized, requestHash, status, contentType,
+            sha256(key(method, normalized, requestHash).getBytes(StandardCharsets.UTF_8)));
+        try {
+            Files.createDirectories(root.resolve("bodies"));
+            Files.write(root.resolve("bodies").resolve(entry.body()), body);
+
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("method", entry.method());
+            line.put("url", entry.url());
+            line.put("requestBody", entry.requestBody());
+            line.put("status", entry.status());
+            line.put("contentType", entry.contentType());
+            line.put("body", entry.body());
+            try (Writer writer = Files.newBufferedWriter(root.resolve("index.jsonl"), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                JsonOutput out = JSON.newOutput(writer);
+                out.setPrettyPrint(false);
+                out.write(line);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record " + url, e);
+        }
+        entries.put(entry.key(), entry);
+    }
+
+    private void load() {
+        Path index = root.resolve("index.jsonl");
+        if (!Files.exists(index)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> raw = JSON.toType(line, Json.MAP_TYPE);
+                Entry entry = new Entry(
+                    (String) raw.getOrDefault("method", "GET"),
+                    (String) raw.get("url"),
+                    (String) raw.get("requestBody"),
+                    ((Number) raw.get("status")).intValue(),
+                    (String) raw.get("contentType"),
+                    (String) raw.get("body"));
+                entries.put(entry.key(), entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read replay index " + index, e);
+        }
+    }
+
+    // Fragments never reach the server, and "https://host" is requested as "https://host/"
+    static String normalize(String url) {
+        int hash = url.indexOf('#');
+        String withoutFragment = hash >= 0 ? url.substring(0, hash) : url;
+        int authorityStart = withoutFragment.indexOf("://");
+        if (authorityStart >= 0 && withoutFragment.indexOf('/', authorityStart + 3) < 0) {
+            int query = withoutFragment.indexOf('?', authorityStart + 3);
+            return query < 0 ? withoutFragment + "/"
+                : withoutFragment.substring(0, query) + "/" + withoutFragment.substring(query);
+        }
+        return withoutFragment;
+    }
+
+    private static String key(String method, String url, String requestHash) {
+        return requestHash == null ? url : method + " " + url + " " + requestHash;
+    }
+
+    // Reads are keyed by URL; anything else also by what was sent
+    private static String requestHash(String method, byte[] requestBody) {
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return null;
+        }
+        return sha256(requestBody == null ? new byte[0] : requestBody);
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
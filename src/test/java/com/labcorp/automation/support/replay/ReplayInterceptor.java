@@ -0,0 +1,85 @@
+package com.labcorp.automation.support.replay;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v117.fetch.Fetch;
+import org.openqa.selenium.devtools.v117.fetch.model.HeaderEntry;
+import org.openqa.selenium.devtools.v117.fetch.model.RequestPaused;
+import org.openqa.selenium.devtools.v117.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v117.network.model.ErrorReason;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers every request of every tab from a {@link ReplayServer}.
+ *
+ * Each tab, including ones opened later such as the Workday application tab, gets a DevTools
+ * connection of its own from {@link PageTargets} with {@code Fetch} enabled for all URLs.
+ * Paused requests are forwarded, with their method and body, to the local server, and its
+ * status, content type and body are returned to the browser as the response. Nothing reaches
+ * the network: a request the server cannot be asked fails like an unreachable host.
+ */
+final class ReplayInterceptor implements AutoCloseable {
+
+    private final ReplayServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private PageTargets pages;
+
+    private ReplayInterceptor(ReplayServer server) {
+        this.server = server;
+    }
+
+    /** Starts serving the session's current tab and every tab opened after it from {@code server}. */
+    static ReplayInterceptor start(WebDriver driver, ReplayServer server) {
+        ReplayInterceptor interceptor = new ReplayInterceptor(server);
+        interceptor.pages = PageTargets.open(driver, "replay", interceptor::interceptTab);
+        return interceptor;
+    }
+
+    private void interceptTab(Connection tab, SessionID session) {
+        tab.addListener(Fetch.requestPaused(), paused -> {
+            if (!paused.getRequest().getUrl().startsWith("http")) {
+                tab.send(session, Fetch.continueRequest(paused.getRequestId(),
+                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+                return;
+            }
+            client.sendAsync(toServer(paused), HttpResponse.BodyHandlers.ofByteArray())
+                .thenAccept(local -> tab.send(session, Fetch.fulfillRequest(paused.getRequestId(), local.statusCode(),
+                    Optional.of(headers(local)), Optional.empty(),
+                    Optional.of(Base64.getEncoder().encodeToString(local.body())), Optional.empty())))
+                .exceptionally(failure -> {
+                    tab.send(session, Fetch.failRequest(paused.getRequestId(), ErrorReason.CONNECTIONREFUSED));
+                    return null;
+                });
+        });
+        RequestPattern everything = new RequestPattern(Optional.of("*"), Optional.empty(), Optional.empty());
+        tab.sendAndWait(session, Fetch.enable(Optional.of(List.of(everything)), Optional.of(false)), PageTargets.ATTACH_TIMEOUT);
+    }
+
+    private HttpRequest toServer(RequestPaused paused) {
+        byte[] body = paused.getRequest().getPostData().map(data -> data.getBytes(StandardCharsets.UTF_8)).orElse(new byte[0]);
+        return HttpRequest.newBuilder(URI.create(server.localUrl(paused.getRequest().getUrl())))
+            .method(paused.getRequest().getMethod(), HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    private static List<HeaderEntry> headers(HttpResponse<byte[]> local) {
+        List<HeaderEntry> headers = new ArrayList<>();
+        local.headers().firstValue("Content-Type").ifPresent(type -> headers.add(new HeaderEntry("Content-Type", type)));
+        return headers;
+    }
+
+    @Override
+    public void close() {
+        pages.close();
+    }
+}
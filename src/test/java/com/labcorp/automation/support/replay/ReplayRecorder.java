@@ -0,0 +1,120 @@
+package com.labcorp.automation.support.replay;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.idealized.target.model.SessionID;
+import org.openqa.selenium.devtools.v117.network.Network;
+import org.openqa.selenium.devtools.v117.network.model.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies every response the browser receives into a {@link ReplayArchive}, as the browser
+ * received it.
+ *
+ * Each tab, including ones opened later such as the Workday application tab, gets a
+ * DevTools connection of its own from {@link PageTargets} with {@code Network} enabled; when a
+ * request finishes loading, its body is read back with {@code Network.getResponseBody} and
+ * stored together with the method and request body, so XHR and POST traffic replays as well
+ * as documents. A redirect chain is stored under every URL in it, so replay lands on the final
+ * page from any of them. Responses whose body the browser did not keep (redirect hops,
+ * beacons, evicted resources) are not stored, so they are not replayed as empty pages.
+ */
+final class ReplayRecorder implements AutoCloseable {
+
+    /** What is known about a request before its body arrives. */
+    private record Pending(String method, byte[] requestBody, List<String> urls, int status, String contentType) {
+    }
+
+    private final ReplayArchive archive;
+    private final AtomicInteger recorded = new AtomicInteger();
+    private PageTargets pages;
+
+    private ReplayRecorder(ReplayArchive archive) {
+        this.archive = archive;
+    }
+
+    /** Starts recording the session's current tab and every tab opened after it. */
+    static ReplayRecorder start(WebDriver driver, ReplayArchive archive) {
+        ReplayRecorder recorder = new ReplayRecorder(archive);
+        recorder.pages = PageTargets.open(driver, "replay recording", recorder::recordTab);
+        return recorder;
+    }
+
+    int recorded() {
+        return recorded.get();
+    }
+
+    private void recordTab(Connection tab, SessionID session) {
+        Map<String, Pending> pending = new ConcurrentHashMap<>();
+        tab.addListener(Network.requestWillBeSent(), e -> {
+            String id = e.getRequestId().toString();
+            Pending previous = pending.get(id);
+            List<String> urls = new ArrayList<>();
+            if (previous != null && e.getRedirectResponse().isPresent()) {
+                // Same request id, next hop of a redirect chain
+                urls.addAll(previous.urls());
+            }
+            urls.add(e.getRequest().getUrl());
+            byte[] requestBody = e.getRequest().getPostData().map(data -> data.getBytes(StandardCharsets.UTF_8)).orElse(null);
+            pending.put(id, new Pending(e.getRequest().getMethod(), requestBody, urls, 0, null));
+        });
+        tab.addListener(Network.responseReceived(), e -> {
+            Pending request = pending.get(e.getRequestId().toString());
+            if (request != null) {
+                Response response = e.getResponse();
+                pending.put(e.getRequestId().toString(), new Pending(request.method(), request.requestBody(),
+                    request.urls(), response.getStatus(), contentType(response)));
+            }
+        });
+        tab.addListener(Network.loadingFailed(), e -> pending.remove(e.getRequestId().toString()));
+        tab.addListener(Network.loadingFinished(), e -> {
+            Pending request = pending.remove(e.getRequestId().toString());
+            if (request == null || request.status() <= 0) {
+                return;
+            }
+            tab.send(session, Network.getResponseBody(e.getRequestId()))
+                .thenAccept(body -> store(request, body))
+                .exceptionally(failure -> {
+                    // Bodies of redirects, beacons and evicted resources are not kept by the
+                    // browser; an empty body under the original status would replay as a blank page
+                    return null;
+                });
+        });
+
+        tab.sendAndWait(session, Network.enable(Optional.empty(), Optional.empty(), Optional.empty()), PageTargets.ATTACH_TIMEOUT);
+    }
+
+    private void store(Pending request, Network.GetResponseBodyResponse body) {
+        byte[] bytes = body.getBase64Encoded() ? Base64.getDecoder().decode(body.getBody())
+            : body.getBody().getBytes(StandardCharsets.UTF_8);
+        for (String url : request.urls()) {
+            if (url.startsWith("http")) {
+                archive.store(request.method(), url, request.requestBody(), request.status(), request.contentType(), bytes);
+                recorded.incrementAndGet();
+            }
+        }
+    }
+
+    // The header keeps the charset that the bare MIME type drops
+    private static String contentType(Response response) {
+        for (Map.Entry<String, Object> header : response.getHeaders().entrySet()) {
+            if ("content-type".equalsIgnoreCase(header.getKey())) {
+                return String.valueOf(header.getValue());
+            }
+        }
+        return response.getMimeType();
+    }
+
+    @Override
+    public void close() {
+        pages.close();
+    }
+}
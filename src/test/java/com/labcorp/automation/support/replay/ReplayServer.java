@@ -0,0 +1,102 @@
+package com.labcorp.automation.support.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP server that serves a {@link ReplayArchive}.
+ *
+ * A recorded {@code https://www.labcorp.com/global/en?q=x} is served at
+ * {@code http://127.0.0.1:<port>/https/www.labcorp.com/global/en?q=x}; {@link #localUrl}
+ * performs that mapping. Requests are looked up by method, URL and, for anything but GET and
+ * HEAD, request body. Requests missing from the archive return 404 for GET and an empty 204
+ * for everything else (analytics beacons and similar fire-and-forget calls).
+ */
+public final class ReplayServer implements AutoCloseable {
+
+    private final ReplayArchive archive;
+    private final HttpServer server;
+
+    private ReplayServer(ReplayArchive archive, HttpServer server) {
+        this.archive = archive;
+        this.server = server;
+    }
+
+    public static ReplayServer start(ReplayArchive archive) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            ReplayServer replay = new ReplayServer(archive, server);
+            server.createContext("/", replay::handle);
+            server.setExecutor(Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "replay-server");
+                t.setDaemon(true);
+                return t;
+            }));
+            server.start();
+            return replay;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start replay server", e);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String localUrl(String originalUrl) {
+        URI uri = URI.create(ReplayArchive.normalize(originalUrl));
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return "http://127.0.0.1:" + port() + "/" + uri.getScheme() + "/" + uri.getRawAuthority() + path + query;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Optional<ReplayArchive.Entry> entry = originalUrl(exchange.getRequestURI())
+                .flatMap(url -> archive.find(method, url, requestBody));
+            if (entry.isEmpty()) {
+                int status = "GET".equals(method) ? 404 : 204;
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] body = archive.readBody(entry.get());
+            if (entry.get().contentType() != null) {
+                exchange.getResponseHeaders().set("Content-Type", entry.get().contentType());
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            exchange.sendResponseHeaders(entry.get().status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+
+    // "/https/www.labcorp.com/global/en" -> "https://www.labcorp.com/global/en"
+    private static Optional<String> originalUrl(URI local) {
+        String path = local.getRawPath();
+        String[] parts = path.substring(1).split("/", 3);
+        if (parts.length < 2) {
+            return Optional.empty();
+        }
+        String rest = parts.length == 3 ? "/" + parts[2] : "/";
+        String query = local.getRawQuery() == null ? "" : "?" + local.getRawQuery();
+        return Optional.of(parts[0] + "://" + parts[1] + rest + query);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
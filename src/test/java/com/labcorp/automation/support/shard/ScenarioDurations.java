@@ -0,0 +1,107 @@
+package com.labcorp.automation.support.shard;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Historical scenario durations used by {@link ShardPlanner}, keyed by
+ * {@code feature/path.feature:line} relative to the project directory.
+ *
+ * Stored in {@code shard.history} (default {@code history/scenario-durations.json}).
+ * New observations are blended with the stored value as an exponential moving average so
+ * one slow run does not reshuffle every shard.
+ */
+public final class ScenarioDurations {
+
+    private static final Json JSON = new Json();
+    private static final Type TYPE = new TypeToken<Map<String, Long>>() { }.getType();
+    private static final Path CWD = Path.of("").toAbsolutePath();
+
+    private final Path file;
+    private final Map<String, Long> millis;
+
+    private ScenarioDurations(Path file, Map<String, Long> millis) {
+        this.file = file;
+        this.millis = millis;
+    }
+
+    public static ScenarioDurations load() {
+        return load(Path.of(TestConfig.get("shard.history", "history/scenario-durations.json")));
+    }
+
+    public static ScenarioDurations load(Path file) {
+        Map<String, Long> millis = new TreeMap<>();
+        if (Files.isRegularFile(file)) {
+            try {
+                Map<String, Long> stored = JSON.toType(Files.readString(file, StandardCharsets.UTF_8), TYPE);
+                if (stored != null) {
+                    millis.putAll(stored);
+                }
+            } catch (IOException | RuntimeException e) {
+                RunLog.record(RunEvent.HISTORY_UNREADABLE, file, e.getMessage());
+            }
+        }
+        return new ScenarioDurations(file, millis);
+    }
+
+    public synchronized OptionalLong get(String key) {
+        Long value = millis.get(key);
+        return value != null ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /** Median of all known durations, used as the estimate for scenarios never seen before. */
+    public synchronized OptionalLong median() {
+        return millis.values().stream().mapToLong(Long::longValue).sorted()
+            .skip(millis.size() / 2).findFirst();
+    }
+
+    public synchronized void record(String key, long observedMillis) {
+        millis.merge(key, observedMillis, (previous, observed) -> (previous + observed) / 2);
+    }
+
+    public synchronized void save() {
+        if (millis.isEmpty()) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, JSON.toJson(millis), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            RunLog.record(RunEvent.REPORT_WRITE_FAILED, file, e.getMessage());
+        }
+    }
+
+    public static String key(Path feature, long line) {
+        return relativePath(feature) + ":" + line;
+    }
+
+    /** The feature path relative to the project directory, with forward slashes. */
+    public static String relativePath(Path feature) {
+        Path absolute = feature.toAbsolutePath().normalize();
+        Path relative = absolute.startsWith(CWD) ? CWD.relativize(absolute) : absolute;
+        return relative.toString().replace('\\', '/');
+    }
+
+    /** Key for a Cucumber feature URI, either {@code file:relative/path} or an absolute file URI. */
+    public static String key(URI uri, long line) {
+        if (uri.isOpaque()) {
+            return key(Path.of(uri.getSchemeSpecificPart()), line);
+        }
+        return "file".equals(uri.getScheme()) ? key(Path.of(uri), line) : uri + ":" + line;
+    }
+}
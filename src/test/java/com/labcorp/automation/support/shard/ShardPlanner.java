@@ -0,0 +1,268 @@
+package com.labcorp.automation.support.shard;
+
+import com.labcorp.automation.support.TestConfig;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Splits the scenarios under a features directory into balanced shards.
+ *
+ * The unit of work is one scenario, or one examples row of a scenario outline, identified by
+ * its feature file and line so a shard can be handed to Cucumber as
+ * {@code path.feature:line:line}. Units are estimated from {@link ScenarioDurations} (unknown
+ * ones get the median) and assigned longest-first to the currently lightest shard.
+ *
+ * Shards never plan on their own: the plan is frozen in {@code shard.plan} (default
+ * {@code target/shards/plan.json}) and every shard reads it, so a history file updated while
+ * other shards are still starting cannot move scenarios between shards. {@link #main} writes
+ * the plan explicitly; otherwise the first shard to start writes it and the others read it.
+ * A plan whose scenarios no longer match the feature files is rejected.
+ */
+public final class ShardPlanner {
+
+    // Estimate for every unit when there is no history at all
+    private static final long DEFAULT_MILLIS = 60_000;
+    private static final Json JSON = new Json();
+
+    /** One schedulable scenario and its estimated duration. */
+    public record Unit(Path feature, int line, long estimatedMillis) {
+
+        public String key() {
+            return ScenarioDurations.key(feature, line);
+        }
+    }
+
+    /** The units assigned to one shard. */
+    public record Shard(int index, List<Unit> units) {
+
+        public long estimatedMillis() {
+            return units.stream().mapToLong(Unit::estimatedMillis).sum();
+        }
+
+        /** Value for the {@code cucumber.features} property: one entry per file with all its lines. */
+        public String toFeaturesProperty() {
+            Map<String, List<Integer>> linesByFile = new LinkedHashMap<>();
+            units.stream()
+                .sorted(Comparator.comparing(Unit::key))
+                .forEach(u -> linesByFile.computeIfAbsent(ScenarioDurations.relativePath(u.feature()),
+                    f -> new ArrayList<>()).add(u.line()));
+            return linesByFile.entrySet().stream()
+                .map(e -> e.getKey() + e.getValue().stream().sorted().map(l -> ":" + l).collect(Collectors.joining()))
+                .collect(Collectors.joining(","));
+        }
+    }
+
+    private ShardPlanner() {
+    }
+
+    public static List<Shard> plan(List<Path> featureRoots, int shardCount, ScenarioDurations durations) {
+        return plan(scan(featureRoots, durations), shardCount);
+    }
+
+    public static Path planFile() {
+        return Path.of(TestConfig.get("shard.plan", "target/shards/plan.json"));
+    }
+
+    /**
+     * The frozen plan for {@code shardCount} shards: read from {@code file}, or planned from the
+     * history and written there if no shard has done so yet.
+     */
+    public static List<Shard> frozenPlan(List<Path> featureRoots, int shardCount, Path file) {
+        List<Unit> units = scan(featureRoots, ScenarioDurations.load());
+        if (!Files.isRegularFile(file)) {
+            try {
+                write(plan(units, shardCount), file, false);
+            } catch (FileAlreadyExistsException e) {
+                // Another shard wrote it first; use theirs
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write shard plan " + file, e);
+            }
+        }
+        List<Shard> shards = read(file);
+        Set<String> planned = shards.stream().flatMap(s -> s.units().stream()).map(Unit::key).collect(Collectors.toCollection(TreeSet::new));
+        Set<String> current = units.stream().map(Unit::key).collect(Collectors.toCollection(TreeSet::new));
+        if (shards.size() != shardCount || !planned.equals(current)) {
+            throw new IllegalStateException("Shard plan " + file + " was made for " + shards.size() + " shards and "
+                + planned.size() + " scenarios, but this run has " + shardCount + " shards and " + current.size()
+                + " scenarios. Delete it or regenerate it with ShardPlanner before starting the shards.");
+        }
+        return shards;
+    }
+
+    // Written to a temporary file and moved into place, so readers never see a partial plan
+    static void write(List<Shard> shards, Path file, boolean replace) throws IOException {
+        List<Object> json = new ArrayList<>();
+        for (Shard shard : shards) {
+            List<Object> units = new ArrayList<>();
+            for (Unit unit : shard.units()) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("feature", ScenarioDurations.relativePath(unit.feature()));
+                entry.put("line", unit.line());
+                entry.put("estimatedMillis", unit.estimatedMillis());
+                units.add(entry);
+            }
+            json.add(Map.of("index", shard.index(), "units", units));
+        }
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = Files.createTempFile(absolute.getParent(), "plan", ".tmp");
+        Files.writeString(temp, JSON.toJson(json), StandardCharsets.UTF_8);
+        try {
+            if (replace) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(temp, absolute);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static List<Shard> read(Path file) {
+        List<Map<String, Object>> json;
+        try {
+            json = JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read shard plan " + file, e);
+        }
+        List<Shard> shards = new ArrayList<>();
+        for (Map<String, Object> shard : json) {
+            List<Unit> units = new ArrayList<>();
+            for (Object item : (List<?>) shard.get("units")) {
+                Map<?, ?> unit = (Map<?, ?>) item;
+                units.add(new Unit(Path.of((String) unit.get("feature")), ((Number) unit.get("line")).intValue(),
+                    ((Number) unit.get("estimatedMillis")).longValue()));
+            }
+            shards.add(new Shard(((Number) shard.get("index")).intValue(), units));
+        }
+        shards.sort(Comparator.comparingInt(Shard::index));
+        return shards;
+    }
+
+    /** Longest-processing-time-first bin packing; ties go to the lowest shard index. */
+    public static List<Shard> plan(List<Unit> units, int shardCount) {
+        List<List<Unit>> bins = new ArrayList<>();
+        long[] loads = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            bins.add(new ArrayList<>());
+        }
+        List<Unit> ordered = new ArrayList<>(units);
+        ordered.sort(Comparator.comparingLong(Unit::estimatedMillis).reversed().thenComparing(Unit::key));
+        for (Unit unit : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            bins.get(lightest).add(unit);
+            loads[lightest] += unit.estimatedMillis();
+        }
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i, bins.get(i)));
+        }
+        return shards;
+    }
+
+    public static List<Unit> scan(List<Path> featureRoots, ScenarioDurations durations) {
+        long fallback = durations.median().orElse(DEFAULT_MILLIS);
+        List<Unit> units = new ArrayList<>();
+        for (Path feature : featureFiles(featureRoots)) {
+            for (int line : scenarioLines(feature)) {
+                String key = ScenarioDurations.key(feature, line);
+                units.add(new Unit(feature, line, durations.get(key).orElse(fallback)));
+            }
+        }
+        return units;
+    }
+
+    private static List<Path> featureFiles(List<Path> roots) {
+        List<Path> files = new ArrayList<>();
+        for (Path root : roots) {
+            if (Files.isRegularFile(root)) {
+                files.add(root);
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.filter(p -> p.toString().endsWith(".feature")).sorted().forEach(files::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not list feature files under " + root, e);
+            }
+        }
+        return files;
+    }
+
+    // Lines Cucumber accepts as filters: each Scenario/Example, and each data row of an
+    // outline's Examples table (the first row of every table is its header)
+    static List<Integer> scenarioLines(Path feature) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(feature);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + feature, e);
+        }
+        List<Integer> result = new ArrayList<>();
+        boolean inOutline = false;
+        boolean inExamples = false;
+        boolean headerSeen = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.startsWith("Scenario Outline:") || line.startsWith("Scenario Template:")) {
+                inOutline = true;
+                inExamples = false;
+            } else if (line.startsWith("Scenario:") || line.startsWith("Example:")) {
+                inOutline = false;
+                inExamples = false;
+                result.add(i + 1);
+            } else if (line.startsWith("Rule:") || line.startsWith("Background:")) {
+                inOutline = false;
+                inExamples = false;
+            } else if (inOutline && (line.startsWith("Examples:") || line.startsWith("Scenarios:"))) {
+                inExamples = true;
+                headerSeen = false;
+            } else if (inExamples && line.startsWith("|")) {
+                if (headerSeen) {
+                    result.add(i + 1);
+                }
+                headerSeen = true;
+            }
+        }
+        return result;
+    }
+
+    /** Writes and prints the plan: {@code ShardPlanner <shardCount> [featuresDir...]}. */
+    public static void main(String[] args) throws IOException {
+        int shardCount = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        List<Path> roots = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            roots.add(Path.of(args[i]));
+        }
+        if (roots.isEmpty()) {
+            roots.add(Path.of("src/test/resources/features"));
+        }
+        List<Shard> shards = plan(roots, shardCount, ScenarioDurations.load());
+        write(shards, planFile(), true);
+        System.out.println("Shard plan written to " + planFile().toAbsolutePath());
+        for (Shard shard : shards) {
+            System.out.printf("Shard %d: %d scenarios, ~%d s%n", shard.index(), shard.units().size(), shard.estimatedMillis() / 1_000);
+            shard.units().forEach(u -> System.out.printf("  %s (~%d s)%n", u.key(), u.estimatedMillis() / 1_000));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.labcorp.automation.support.shard;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ShardPlannerTest {
+
+    @Test
+    public void balancesShardsByEstimatedDuration() {
+        List<ShardPlanner.Unit> units = List.of(unit(1, 70), unit(2, 50), unit(3, 40), unit(4, 30), unit(5, 10));
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(units, 2);
+
+        assertEquals(100, shards.get(0).estimatedMillis());
+        assertEquals(100, shards.get(1).estimatedMillis());
+    }
+
+    @Test
+    public void placesEveryUnitExactlyOnce() {
+        List<ShardPlanner.Unit> units = new ArrayList<>();
+        for (int line = 1; line <= 23; line++) {
+            units.add(unit(line, line * 7 % 13 + 1));
+        }
+
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(units, 4);
+
+        List<ShardPlanner.Unit> placed = new ArrayList<>();
+        shards.forEach(shard -> placed.addAll(shard.units()));
+        assertEquals(units.size(), placed.size());
+        assertTrue(placed.containsAll(units));
+    }
+
+    @Test
+    public void isDeterministicForEqualDurations() {
+        List<ShardPlanner.Unit> units = List.of(unit(3, 10), unit(1, 10), unit(2, 10));
+
+        assertEquals(ShardPlanner.plan(units, 2), ShardPlanner.plan(List.of(units.get(2), units.get(0), units.get(1)), 2));
+    }
+
+    @Test
+    public void leavesSurplusShardsEmpty() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(List.of(unit(1, 10)), 3);
+
+        assertEquals(1, shards.get(0).units().size());
+        assertTrue(shards.get(1).units().isEmpty());
+        assertTrue(shards.get(2).units().isEmpty());
+    }
+
+    private static ShardPlanner.Unit unit(int line, long millis) {
+        return new ShardPlanner.Unit(Path.of("features/example.feature"), line, millis);
+    }
+}
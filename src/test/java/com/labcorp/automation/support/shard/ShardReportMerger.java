@@ -0,0 +1,196 @@
+package com.labcorp.automation.support.shard;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Combines the per-shard Cucumber JSON reports into one.
+ *
+ * {@code ShardReportMerger [shardDir] [outputDir]} reads every {@code *.json} in
+ * {@code shardDir} (default {@code target/shards}), merges scenarios of the same feature,
+ * and writes {@code cucumber.json} plus a {@code cucumber-merged.html} summary to
+ * {@code outputDir} (default {@code target}). The merged scenario durations are also fed
+ * back into {@link ScenarioDurations} so the next plan reflects runs on every host.
+ */
+public final class ShardReportMerger {
+
+    private static final Json JSON = new Json();
+
+    private ShardReportMerger() {
+    }
+
+    /** One scenario of the merged report. */
+    private record ScenarioRow(String feature, String name, long line, String status, long millis, String error, String shard) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path shardDir = Path.of(args.length > 0 ? args[0] : "target/shards");
+        Path outputDir = Path.of(args.length > 1 ? args[1] : "target");
+
+        Map<String, Map<String, Object>> features = new LinkedHashMap<>();
+        List<ScenarioRow> rows = new ArrayList<>();
+        ScenarioDurations durations = ScenarioDurations.load();
+
+        List<Path> shardFiles = shardFiles(shardDir);
+        for (Path shardFile : shardFiles) {
+            String shard = shardFile.getFileName().toString().replaceFirst("\\.json$", "");
+            List<Map<String, Object>> report = JSON.toType(Files.readString(shardFile, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+            for (Map<String, Object> feature : report) {
+                String uri = String.valueOf(feature.get("uri"));
+                Map<String, Object> merged = features.computeIfAbsent(uri, u -> {
+                    Map<String, Object> copy = new LinkedHashMap<>(feature);
+                    copy.put("elements", new ArrayList<Map<String, Object>>());
+                    return copy;
+                });
+                List<Map<String, Object>> elements = elements(feature);
+                elementsOf(merged).addAll(elements);
+                collectRows(uri, String.valueOf(feature.get("name")), elements, shard, rows, durations);
+            }
+        }
+        features.values().forEach(f -> elementsOf(f).sort(Comparator.comparingLong(e -> number(e.get("line")))));
+
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("cucumber.json"), JSON.toJson(new ArrayList<>(features.values())), StandardCharsets.UTF_8);
+        Files.writeString(outputDir.resolve("cucumber-merged.html"), toHtml(rows, shardFiles.size()), StandardCharsets.UTF_8);
+        durations.save();
+
+        long failed = rows.stream().filter(r -> r.status().equals("failed")).count();
+        System.out.println("Merged " + rows.size() + " scenarios from " + shardFiles.size() + " shards into "
+            + outputDir.toAbsolutePath() + " (" + failed + " failed)");
+    }
+
+    private static List<Path> shardFiles(Path shardDir) {
+        try (Stream<Path> files = Files.list(shardDir)) {
+            return files.filter(p -> p.toString().endsWith(".json")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list shard reports in " + shardDir, e);
+        }
+    }
+
+    // Background elements precede the scenario they run for; their time is charged to it
+    private static void collectRows(String uri, String featureName, List<Map<String, Object>> elements,
+                                    String shard, List<ScenarioRow> rows, ScenarioDurations durations) {
+        long backgroundNanos = 0;
+        String backgroundStatus = "passed";
+        String backgroundError = null;
+        for (Map<String, Object> element : elements) {
+            List<Map<String, Object>> results = results(element);
+            long nanos = results.stream().mapToLong(r -> number(r.get("duration"))).sum();
+            String status = status(results);
+            String error = results.stream().map(r -> (String) r.get("error_message")).filter(e -> e != null).findFirst().orElse(null);
+
+            if ("background".equals(element.get("type"))) {
+                backgroundNanos = nanos;
+                backgroundStatus = status;
+                backgroundError = error;
+                continue;
+            }
+            long millis = (nanos + backgroundNanos) / 1_000_000;
+            if (!backgroundStatus.equals("passed")) {
+                status = backgroundStatus;
+                error = backgroundError;
+            }
+            long line = number(element.get("line"));
+            rows.add(new ScenarioRow(featureName, String.valueOf(element.get("name")), line, status, millis, error, shard));
+            if (!status.equals("skipped")) {
+                durations.record(ScenarioDurations.key(URI.create(uri), line), millis);
+            }
+            backgroundNanos = 0;
+            backgroundStatus = "passed";
+            backgroundError = null;
+        }
+    }
+
+    private static List<Map<String, Object>> results(Map<String, Object> element) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String section : List.of("before", "steps", "after")) {
+            Object items = element.get(section);
+            if (items instanceof List) {
+                for (Object item : (List<?>) items) {
+                    Object result = ((Map<?, ?>) item).get("result");
+                    if (result instanceof Map) {
+                        @SuppressWarnings("unchecked")
+                        Map<String, Object> typed = (Map<String, Object>) result;
+                        results.add(typed);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static String status(List<Map<String, Object>> results) {
+        String status = "passed";
+        for (Map<String, Object> result : results) {
+            String current = String.valueOf(result.get("status"));
+            if (current.equals("failed")) {
+                return current;
+            }
+            if (!current.equals("passed")) {
+                status = current;
+            }
+        }
+        return status;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> elements(Map<String, Object> feature) {
+        Object elements = feature.get("elements");
+        return elements instanceof List ? (List<Map<String, Object>>) elements : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> elementsOf(Map<String, Object> merged) {
+        return (List<Map<String, Object>>) merged.get("elements");
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    // ============================================================================
+    // HTML SUMMARY
+    // ============================================================================
+
+    private static String toHtml(List<ScenarioRow> rows, int shardCount) {
+        long passed = rows.stream().filter(r -> r.status().equals("passed")).count();
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Merged Cucumber report</title>\n")
+            .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:4px 8px;text-align:left}")
+            .append(".passed{background:#e6f4ea}.failed{background:#fce8e6}.skipped,.pending,.undefined{background:#fef7e0}pre{margin:0;white-space:pre-wrap}</style>\n")
+            .append("</head><body>\n")
+            .append("<h1>Merged Cucumber report</h1>\n")
+            .append(String.format(Locale.ROOT, "<p>%d scenarios from %d shards: %d passed, %d not passed</p>%n",
+                rows.size(), shardCount, passed, rows.size() - passed))
+            .append("<table>\n<tr><th>Feature</th><th>Scenario</th><th>Line</th><th>Shard</th><th>Status</th><th>Duration (s)</th><th>Error</th></tr>\n");
+        for (ScenarioRow row : rows) {
+            html.append("<tr class=\"").append(escape(row.status())).append("\">")
+                .append("<td>").append(escape(row.feature())).append("</td>")
+                .append("<td>").append(escape(row.name())).append("</td>")
+                .append("<td>").append(row.line()).append("</td>")
+                .append("<td>").append(escape(row.shard())).append("</td>")
+                .append("<td>").append(escape(row.status())).append("</td>")
+                .append(String.format(Locale.ROOT, "<td>%.1f</td>", row.millis() / 1_000.0))
+                .append("<td><pre>").append(row.error() != null ? escape(row.error()) : "").append("</pre></td>")
+                .append("</tr>\n");
+        }
+        return html.append("</table>\n</body></html>\n").toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
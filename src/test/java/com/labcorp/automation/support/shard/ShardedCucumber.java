@@ -0,0 +1,71 @@
+package com.labcorp.automation.support.shard;
+
+import com.labcorp.automation.support.TestConfig;
+import com.labcorp.automation.support.log.RunEvent;
+import com.labcorp.automation.support.log.RunLog;
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cucumber runner that executes one shard of the scenarios.
+ *
+ * With {@code -Dshard.count=N -Dshard.index=i} (0-based) the scenarios under the runner's
+ * {@code @CucumberOptions(features)} are split by the plan {@link ShardPlanner} froze in
+ * {@code shard.plan} and only shard {@code i} is handed to Cucumber through
+ * {@code cucumber.features}. Each shard also writes
+ * {@code target/shards/shard-i.json} for {@link ShardReportMerger}, unless
+ * {@code cucumber.plugin} is already set. Without {@code shard.count} it runs everything like
+ * {@link Cucumber}, reporting as shard 0.
+ *
+ * {@link Cucumber} is final and reads its configuration in its constructor, so this runner
+ * is a one-child {@link Suite} that applies the shard selection before building it.
+ */
+public class ShardedCucumber extends Suite {
+
+    public ShardedCucumber(Class<?> testClass) throws InitializationError {
+        super(testClass, List.of(new Cucumber(selectShard(testClass))));
+    }
+
+    private static Class<?> selectShard(Class<?> testClass) {
+        int count = TestConfig.getInt("shard.count", 0);
+        if (count <= 1) {
+            // An unsharded run is shard 0 of 1, so its report can feed the duration history too
+            reportTo(0);
+            return testClass;
+        }
+        int index = TestConfig.getInt("shard.index", 0);
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (count - 1) + " but was " + index);
+        }
+
+        CucumberOptions options = testClass.getAnnotation(CucumberOptions.class);
+        List<Path> roots = Arrays.stream(options != null ? options.features() : new String[0]).map(Path::of).toList();
+        List<ShardPlanner.Shard> shards = ShardPlanner.frozenPlan(roots, count, ShardPlanner.planFile());
+        ShardPlanner.Shard shard = shards.get(index);
+
+        String loads = shards.stream().map(s -> s.estimatedMillis() / 1_000 + "s").reduce((a, b) -> a + "/" + b).orElse("");
+        RunLog.record(RunEvent.SHARD_SELECTED, index + " of " + count, "~" + shard.estimatedMillis() / 1_000 + " s",
+            "plan " + loads, shard.units().size());
+
+        if (shard.units().isEmpty()) {
+            // More shards than scenarios: keep the features but let no scenario name match
+            System.setProperty("cucumber.filter.name", "(?!)");
+        } else {
+            System.setProperty("cucumber.features", shard.toFeaturesProperty());
+        }
+        reportTo(index);
+        return testClass;
+    }
+
+    private static void reportTo(int index) {
+        if (System.getProperty("cucumber.plugin") == null) {
+            System.setProperty("cucumber.plugin", "json:target/shards/shard-" + index + ".json");
+        }
+    }
+}
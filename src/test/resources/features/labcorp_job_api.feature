@@ -0,0 +1,8 @@
+@api
+Feature: Validate Labcorp job posting data over HTTP
+
+  Scenario: Validate job posting details without a browser
+    When I fetch job postings matching "QA Test Automation Developer" over HTTP
+    Then every fetched job posting has a title, location and job ID
+    And a fetched job posting titled "QA Test Automation Developer" is located in "India"
+    And a fetched job posting titled "QA Test Automation Developer" lists the requirement "5+ years of experience in QA automation development and scripting."
@@ -0,0 +1,9 @@
+@batch
+Feature: Validate Labcorp job listings in batch
+
+  Scenario: Validate every matching job listing in one browser session
+    Given I open Chrome and navigate to "https://www.labcorp.com"
+    When I find and click the "Careers" link
+    And I search for "QA" position
+    And I validate all jobs matching "QA" in batch
+    Then every batch-validated job has a title, location and job ID
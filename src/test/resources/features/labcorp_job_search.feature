@@ -5,7 +5,8 @@ Feature: Validate Labcorp Job Listing and Application Flow
     When I find and click the "Careers" link
     And I search for "QA Test Automation Developer" position
     And I select the "QA Test Automation Developer" job
-    Then I validate the job title as "QA Test Automation Developer"
+    Then the page loads within 30000 ms
+    And I validate the job title as "QA Test Automation Developer"
     And I validate the job location contains "India"
     And I validate the job ID is present
     And I confirm the first sentence of the introduction as "The right candidate for this role will participate in the test automation technology development and best practice models."